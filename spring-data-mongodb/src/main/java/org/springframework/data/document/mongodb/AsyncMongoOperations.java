@@ -0,0 +1,191 @@
+/*
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.document.mongodb;
+
+import java.util.List;
+import java.util.concurrent.Future;
+
+import com.mongodb.WriteResult;
+
+import org.springframework.data.document.mongodb.query.Query;
+import org.springframework.data.document.mongodb.query.Update;
+
+/**
+ * Asynchronous counterpart of {@link MongoOperations}. Every operation returns immediately with a {@link Future}
+ * representing the pending result. Failures are reported through {@link Future#get()} as an
+ * {@link java.util.concurrent.ExecutionException} wrapping the {@link org.springframework.dao.DataAccessException} the
+ * synchronous operation would have thrown. Implemented by {@link AsyncMongoTemplate}.
+ *
+ * @see MongoOperations
+ */
+public interface AsyncMongoOperations {
+
+  /**
+   * Asynchronously map the results of an ad-hoc query on the default MongoDB collection to a single instance of an
+   * object of the specified type.
+   *
+   * @param query       the query class that specifies the criteria used to find a record and also an optional fields specification
+   * @param targetClass the parameterized type of the returned object.
+   * @return a {@link Future} for the converted object
+   * @see MongoOperations#findOne(Query, Class)
+   */
+  <T> Future<T> findOne(Query query, Class<T> targetClass);
+
+  /**
+   * Asynchronously map the results of an ad-hoc query on the specified collection to a single instance of an object
+   * of the specified type.
+   *
+   * @param collectionName name of the collection to retrieve the objects from
+   * @param query          the query class that specifies the criteria used to find a record and also an optional fields specification
+   * @param targetClass    the parameterized type of the returned object.
+   * @return a {@link Future} for the converted object
+   * @see MongoOperations#findOne(String, Query, Class)
+   */
+  <T> Future<T> findOne(String collectionName, Query query, Class<T> targetClass);
+
+  /**
+   * Asynchronously map the results of an ad-hoc query on the default MongoDB collection to a List of the specified
+   * type.
+   *
+   * @param query       the query class that specifies the criteria used to find a record and also an optional fields specification
+   * @param targetClass the parameterized type of the returned list.
+   * @return a {@link Future} for the List of converted objects
+   * @see MongoOperations#find(Query, Class)
+   */
+  <T> Future<List<T>> find(Query query, Class<T> targetClass);
+
+  /**
+   * Asynchronously map the results of an ad-hoc query on the specified collection to a List of the specified type.
+   *
+   * @param collectionName name of the collection to retrieve the objects from
+   * @param query          the query class that specifies the criteria used to find a record and also an optional fields specification
+   * @param targetClass    the parameterized type of the returned list.
+   * @return a {@link Future} for the List of converted objects
+   * @see MongoOperations#find(String, Query, Class)
+   */
+  <T> Future<List<T>> find(String collectionName, Query query, Class<T> targetClass);
+
+  /**
+   * Asynchronously insert the object into the default collection.
+   *
+   * @param objectToSave the object to store in the collection.
+   * @return a {@link Future} completing once the object has been inserted
+   * @see MongoOperations#insert(Object)
+   */
+  Future<Void> insert(Object objectToSave);
+
+  /**
+   * Asynchronously insert the object into the specified collection.
+   *
+   * @param collectionName name of the collection to store the object in
+   * @param objectToSave   the object to store in the collection
+   * @return a {@link Future} completing once the object has been inserted
+   * @see MongoOperations#insert(String, Object)
+   */
+  Future<Void> insert(String collectionName, Object objectToSave);
+
+  /**
+   * Asynchronously save the object to the default collection.
+   *
+   * @param objectToSave the object to store in the collection
+   * @return a {@link Future} completing once the object has been saved
+   * @see MongoOperations#save(Object)
+   */
+  Future<Void> save(Object objectToSave);
+
+  /**
+   * Asynchronously save the object to the specified collection.
+   *
+   * @param collectionName name of the collection to store the object in
+   * @param objectToSave   the object to store in the collection
+   * @return a {@link Future} completing once the object has been saved
+   * @see MongoOperations#save(String, Object)
+   */
+  Future<Void> save(String collectionName, Object objectToSave);
+
+  /**
+   * Asynchronously update the first object that is found in the default collection that matches the query.
+   *
+   * @param entityClass class that determines the collection to use
+   * @param query       the query that specifies the criteria used to select a record to be updated
+   * @param update      the update to apply to the matching document
+   * @return a {@link Future} for the {@link WriteResult}
+   * @see MongoOperations#updateFirst(Class, Query, Update)
+   */
+  Future<WriteResult> updateFirst(Class<?> entityClass, Query query, Update update);
+
+  /**
+   * Asynchronously update the first object that is found in the specified collection that matches the query.
+   *
+   * @param collectionName name of the collection to update the object in
+   * @param query          the query that specifies the criteria used to select a record to be updated
+   * @param update         the update to apply to the matching document
+   * @return a {@link Future} for the {@link WriteResult}
+   * @see MongoOperations#updateFirst(String, Query, Update)
+   */
+  Future<WriteResult> updateFirst(String collectionName, Query query, Update update);
+
+  /**
+   * Asynchronously update all objects that are found in the default collection that match the query.
+   *
+   * @param entityClass class that determines the collection to use
+   * @param query       the query that specifies the criteria used to select the records to be updated
+   * @param update      the update to apply to the matching documents
+   * @return a {@link Future} for the {@link WriteResult}
+   * @see MongoOperations#updateMulti(Class, Query, Update)
+   */
+  Future<WriteResult> updateMulti(Class<?> entityClass, Query query, Update update);
+
+  /**
+   * Asynchronously update all objects that are found in the specified collection that match the query.
+   *
+   * @param collectionName name of the collection to update the objects in
+   * @param query          the query that specifies the criteria used to select the records to be updated
+   * @param update         the update to apply to the matching documents
+   * @return a {@link Future} for the {@link WriteResult}
+   * @see MongoOperations#updateMulti(String, Query, Update)
+   */
+  Future<WriteResult> updateMulti(String collectionName, Query query, Update update);
+
+  /**
+   * Asynchronously remove the given object from its default collection by id.
+   *
+   * @param object
+   * @return a {@link Future} completing once the object has been removed
+   * @see MongoOperations#remove(Object)
+   */
+  Future<Void> remove(Object object);
+
+  /**
+   * Asynchronously remove all documents from the default collection of the given class that match the query.
+   *
+   * @param query       the query that specifies the criteria used to remove a record
+   * @param targetClass the class used to determine the collection and to convert the id if present in the query
+   * @return a {@link Future} completing once the documents have been removed
+   * @see MongoOperations#remove(Query, Class)
+   */
+  <T> Future<Void> remove(Query query, Class<T> targetClass);
+
+  /**
+   * Asynchronously remove all documents from the specified collection that match the query.
+   *
+   * @param collectionName name of the collection where the objects will removed
+   * @param query          the query that specifies the criteria used to remove a record
+   * @return a {@link Future} completing once the documents have been removed
+   * @see MongoOperations#remove(String, Query)
+   */
+  Future<Void> remove(String collectionName, Query query);
+}
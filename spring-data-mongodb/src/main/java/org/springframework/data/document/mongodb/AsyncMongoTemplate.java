@@ -0,0 +1,383 @@
+/*
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *			http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.document.mongodb;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.mongodb.WriteResult;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.data.document.mongodb.query.Query;
+import org.springframework.data.document.mongodb.query.Update;
+import org.springframework.util.Assert;
+
+/**
+ * Implementation of {@link AsyncMongoOperations} that runs the operations of a {@link MongoOperations} instance on an
+ * {@link ExecutorService}.
+ * <p/>
+ * The number of operations in flight per collection is limited to {@link #setMaxInFlightPerCollection(int)}. Once the
+ * limit is reached, further operations on that collection are not queued and the caller is not blocked. The returned
+ * {@link Future} fails right away with a {@link TransientDataAccessResourceException} instead, so callers can back off
+ * and retry. Exceptions are translated using the {@link MongoExceptionTranslator}.
+ * <p/>
+ * Unless configured otherwise, a fixed pool of daemon threads sized to the maximum number of operations in flight per
+ * collection is used and shut down on {@link #destroy()}. Any {@link ExecutorService}, e.g. one handing out virtual
+ * threads on a runtime that supports them, can be configured instead.
+ */
+public class AsyncMongoTemplate implements AsyncMongoOperations, DisposableBean {
+
+	public static final int DEFAULT_MAX_IN_FLIGHT_PER_COLLECTION = 50;
+
+	private final MongoOperations mongoOperations;
+	private final ExecutorService executor;
+	private final boolean ownsExecutor;
+	private final MongoExceptionTranslator exceptionTranslator = new MongoExceptionTranslator();
+	private final ConcurrentMap<String, Semaphore> inFlight = new ConcurrentHashMap<String, Semaphore>();
+
+	private int maxInFlightPerCollection = DEFAULT_MAX_IN_FLIGHT_PER_COLLECTION;
+
+	/**
+	 * Creates a new {@link AsyncMongoTemplate} running the operations of the given {@link MongoOperations} on a thread
+	 * pool sized to the maximum number of operations in flight per collection.
+	 *
+	 * @param mongoOperations must not be {@literal null}.
+	 */
+	public AsyncMongoTemplate(MongoOperations mongoOperations) {
+		this(mongoOperations, createDefaultExecutor(), true);
+	}
+
+	/**
+	 * Creates a new {@link AsyncMongoTemplate} running the operations of the given {@link MongoOperations} on the given
+	 * {@link ExecutorService}. The executor is not shut down by this template.
+	 *
+	 * @param mongoOperations must not be {@literal null}.
+	 * @param executor        must not be {@literal null}.
+	 */
+	public AsyncMongoTemplate(MongoOperations mongoOperations, ExecutorService executor) {
+		this(mongoOperations, executor, false);
+	}
+
+	private AsyncMongoTemplate(MongoOperations mongoOperations, ExecutorService executor, boolean ownsExecutor) {
+
+		Assert.notNull(mongoOperations);
+		Assert.notNull(executor);
+
+		this.mongoOperations = mongoOperations;
+		this.executor = executor;
+		this.ownsExecutor = ownsExecutor;
+	}
+
+	/**
+	 * Sets the maximum number of operations that may run concurrently against a single collection. Defaults to
+	 * {@value #DEFAULT_MAX_IN_FLIGHT_PER_COLLECTION}. Has to be configured before the first operation is issued. The
+	 * default thread pool is resized accordingly.
+	 *
+	 * @param maxInFlightPerCollection
+	 */
+	public void setMaxInFlightPerCollection(int maxInFlightPerCollection) {
+		Assert.isTrue(maxInFlightPerCollection > 0, "Max in-flight operations must be greater than zero!");
+		this.maxInFlightPerCollection = maxInFlightPerCollection;
+
+		if (ownsExecutor) {
+			ThreadPoolExecutor pool = (ThreadPoolExecutor) executor;
+			if (maxInFlightPerCollection > pool.getMaximumPoolSize()) {
+				pool.setMaximumPoolSize(maxInFlightPerCollection);
+				pool.setCorePoolSize(maxInFlightPerCollection);
+			} else {
+				pool.setCorePoolSize(maxInFlightPerCollection);
+				pool.setMaximumPoolSize(maxInFlightPerCollection);
+			}
+		}
+	}
+
+	/**
+	 * Returns the underlying {@link MongoOperations}.
+	 *
+	 * @return
+	 */
+	public MongoOperations getMongoOperations() {
+		return mongoOperations;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.document.mongodb.AsyncMongoOperations#findOne(org.springframework.data.document.mongodb.query.Query, java.lang.Class)
+	 */
+	public <T> Future<T> findOne(Query query, Class<T> targetClass) {
+		return findOne(mongoOperations.getCollectionName(targetClass), query, targetClass);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.document.mongodb.AsyncMongoOperations#findOne(java.lang.String, org.springframework.data.document.mongodb.query.Query, java.lang.Class)
+	 */
+	public <T> Future<T> findOne(final String collectionName, final Query query, final Class<T> targetClass) {
+		return submit(collectionName, new Callable<T>() {
+			public T call() {
+				return mongoOperations.findOne(collectionName, query, targetClass);
+			}
+		});
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.document.mongodb.AsyncMongoOperations#find(org.springframework.data.document.mongodb.query.Query, java.lang.Class)
+	 */
+	public <T> Future<List<T>> find(Query query, Class<T> targetClass) {
+		return find(mongoOperations.getCollectionName(targetClass), query, targetClass);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.document.mongodb.AsyncMongoOperations#find(java.lang.String, org.springframework.data.document.mongodb.query.Query, java.lang.Class)
+	 */
+	public <T> Future<List<T>> find(final String collectionName, final Query query, final Class<T> targetClass) {
+		return submit(collectionName, new Callable<List<T>>() {
+			public List<T> call() {
+				return mongoOperations.find(collectionName, query, targetClass);
+			}
+		});
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.document.mongodb.AsyncMongoOperations#insert(java.lang.Object)
+	 */
+	public Future<Void> insert(Object objectToSave) {
+		Assert.notNull(objectToSave);
+		return insert(mongoOperations.getCollectionName(objectToSave.getClass()), objectToSave);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.document.mongodb.AsyncMongoOperations#insert(java.lang.String, java.lang.Object)
+	 */
+	public Future<Void> insert(final String collectionName, final Object objectToSave) {
+		return submit(collectionName, new Callable<Void>() {
+			public Void call() {
+				mongoOperations.insert(collectionName, objectToSave);
+				return null;
+			}
+		});
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.document.mongodb.AsyncMongoOperations#save(java.lang.Object)
+	 */
+	public Future<Void> save(Object objectToSave) {
+		Assert.notNull(objectToSave);
+		return save(mongoOperations.getCollectionName(objectToSave.getClass()), objectToSave);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.document.mongodb.AsyncMongoOperations#save(java.lang.String, java.lang.Object)
+	 */
+	public Future<Void> save(final String collectionName, final Object objectToSave) {
+		return submit(collectionName, new Callable<Void>() {
+			public Void call() {
+				mongoOperations.save(collectionName, objectToSave);
+				return null;
+			}
+		});
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.document.mongodb.AsyncMongoOperations#updateFirst(java.lang.Class, org.springframework.data.document.mongodb.query.Query, org.springframework.data.document.mongodb.query.Update)
+	 */
+	public Future<WriteResult> updateFirst(final Class<?> entityClass, final Query query, final Update update) {
+		return submit(mongoOperations.getCollectionName(entityClass), new Callable<WriteResult>() {
+			public WriteResult call() {
+				return mongoOperations.updateFirst(entityClass, query, update);
+			}
+		});
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.document.mongodb.AsyncMongoOperations#updateFirst(java.lang.String, org.springframework.data.document.mongodb.query.Query, org.springframework.data.document.mongodb.query.Update)
+	 */
+	public Future<WriteResult> updateFirst(final String collectionName, final Query query, final Update update) {
+		return submit(collectionName, new Callable<WriteResult>() {
+			public WriteResult call() {
+				return mongoOperations.updateFirst(collectionName, query, update);
+			}
+		});
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.document.mongodb.AsyncMongoOperations#updateMulti(java.lang.Class, org.springframework.data.document.mongodb.query.Query, org.springframework.data.document.mongodb.query.Update)
+	 */
+	public Future<WriteResult> updateMulti(final Class<?> entityClass, final Query query, final Update update) {
+		return submit(mongoOperations.getCollectionName(entityClass), new Callable<WriteResult>() {
+			public WriteResult call() {
+				return mongoOperations.updateMulti(entityClass, query, update);
+			}
+		});
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.document.mongodb.AsyncMongoOperations#updateMulti(java.lang.String, org.springframework.data.document.mongodb.query.Query, org.springframework.data.document.mongodb.query.Update)
+	 */
+	public Future<WriteResult> updateMulti(final String collectionName, final Query query, final Update update) {
+		return submit(collectionName, new Callable<WriteResult>() {
+			public WriteResult call() {
+				return mongoOperations.updateMulti(collectionName, query, update);
+			}
+		});
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.document.mongodb.AsyncMongoOperations#remove(java.lang.Object)
+	 */
+	public Future<Void> remove(final Object object) {
+		Assert.notNull(object);
+		return submit(mongoOperations.getCollectionName(object.getClass()), new Callable<Void>() {
+			public Void call() {
+				mongoOperations.remove(object);
+				return null;
+			}
+		});
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.document.mongodb.AsyncMongoOperations#remove(org.springframework.data.document.mongodb.query.Query, java.lang.Class)
+	 */
+	public <T> Future<Void> remove(final Query query, final Class<T> targetClass) {
+		return submit(mongoOperations.getCollectionName(targetClass), new Callable<Void>() {
+			public Void call() {
+				mongoOperations.remove(query, targetClass);
+				return null;
+			}
+		});
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.document.mongodb.AsyncMongoOperations#remove(java.lang.String, org.springframework.data.document.mongodb.query.Query)
+	 */
+	public Future<Void> remove(final String collectionName, final Query query) {
+		return submit(collectionName, new Callable<Void>() {
+			public Void call() {
+				mongoOperations.remove(collectionName, query);
+				return null;
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.DisposableBean#destroy()
+	 */
+	public void destroy() {
+		if (ownsExecutor) {
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Submits the given {@link Callable} for execution if a permit for the given collection is available. Never blocks
+	 * the calling thread. If no permit is available or the executor rejects the operation, a failed {@link Future} is
+	 * returned instead.
+	 *
+	 * @param collectionName
+	 * @param callable
+	 * @return
+	 */
+	private <T> Future<T> submit(String collectionName, final Callable<T> callable) {
+
+		final Semaphore permits = getPermits(collectionName);
+
+		if (!permits.tryAcquire()) {
+			return failed(new TransientDataAccessResourceException("Too many operations in flight on collection "
+					+ collectionName));
+		}
+
+		try {
+			return executor.submit(new Callable<T>() {
+				public T call() throws Exception {
+					try {
+						return callable.call();
+					} catch (RuntimeException e) {
+						throw potentiallyConvertRuntimeException(e);
+					} finally {
+						permits.release();
+					}
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			permits.release();
+			return failed(new DataAccessResourceFailureException("Could not schedule operation on collection "
+					+ collectionName, e));
+		}
+	}
+
+	/**
+	 * Returns a completed {@link Future} that reports the given exception on {@link Future#get()}.
+	 *
+	 * @param exception
+	 * @return
+	 */
+	private static <T> Future<T> failed(final RuntimeException exception) {
+
+		FutureTask<T> future = new FutureTask<T>(new Callable<T>() {
+			public T call() {
+				throw exception;
+			}
+		});
+		future.run();
+		return future;
+	}
+
+	private Semaphore getPermits(String collectionName) {
+
+		Semaphore permits = inFlight.get(collectionName);
+
+		if (permits == null) {
+			Semaphore newPermits = new Semaphore(maxInFlightPerCollection);
+			permits = inFlight.putIfAbsent(collectionName, newPermits);
+			if (permits == null) {
+				permits = newPermits;
+			}
+		}
+
+		return permits;
+	}
+
+	private RuntimeException potentiallyConvertRuntimeException(RuntimeException ex) {
+		RuntimeException resolved = this.exceptionTranslator.translateExceptionIfPossible(ex);
+		return resolved == null ? ex : resolved;
+	}
+
+	private static ExecutorService createDefaultExecutor() {
+		return new ThreadPoolExecutor(DEFAULT_MAX_IN_FLIGHT_PER_COLLECTION, DEFAULT_MAX_IN_FLIGHT_PER_COLLECTION, 0L,
+				TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+
+			private final AtomicInteger counter = new AtomicInteger();
+
+			public Thread newThread(Runnable runnable) {
+				Thread thread = new Thread(runnable, "mongo-async-" + counter.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+	}
+}
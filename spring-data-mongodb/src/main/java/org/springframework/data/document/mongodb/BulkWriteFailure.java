@@ -0,0 +1,68 @@
+/*
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.document.mongodb;
+
+import org.springframework.dao.DataAccessException;
+
+/**
+ * A single write buffered by a {@link BulkWriter} that could not be applied to the database.
+ */
+public class BulkWriteFailure {
+
+  private final String collectionName;
+  private final Object subject;
+  private final DataAccessException cause;
+
+  public BulkWriteFailure(String collectionName, Object subject, DataAccessException cause) {
+    this.collectionName = collectionName;
+    this.subject = subject;
+    this.cause = cause;
+  }
+
+  /**
+   * The name of the collection the write was targeted at.
+   *
+   * @return
+   */
+  public String getCollectionName() {
+    return collectionName;
+  }
+
+  /**
+   * The object the failed write was issued for. This is the entity for inserts, saves and removes by entity and the
+   * {@link org.springframework.data.document.mongodb.query.Query} for updates and removes by query.
+   *
+   * @return
+   */
+  public Object getSubject() {
+    return subject;
+  }
+
+  /**
+   * The translated exception the write failed with.
+   *
+   * @return
+   */
+  public DataAccessException getCause() {
+    return cause;
+  }
+
+  @Override
+  public String toString() {
+    return "BulkWriteFailure [collection=" + collectionName + ", subject=" + subject + ", cause=" + cause.getMessage()
+        + "]";
+  }
+}
@@ -0,0 +1,705 @@
+/*
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *			http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.document.mongodb;
+
+import static org.springframework.data.document.mongodb.query.Criteria.*;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+import com.mongodb.DBRefBase;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.bson.BSON;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.document.mongodb.mapping.event.AfterSaveEvent;
+import org.springframework.data.document.mongodb.mapping.event.BeforeConvertEvent;
+import org.springframework.data.document.mongodb.mapping.event.BeforeSaveEvent;
+import org.springframework.data.document.mongodb.query.Query;
+import org.springframework.data.document.mongodb.query.Update;
+import org.springframework.util.Assert;
+
+/**
+ * Buffers inserts, saves, updates and removes per collection and writes them through the given {@link MongoTemplate}
+ * once the number of buffered writes, their accumulated size in bytes or the age of the oldest buffered write exceeds
+ * the configured threshold.
+ * <p/>
+ * Consecutive inserts (and saves of objects that do not carry an id yet) into the same collection are written as a
+ * single multi-document insert that is split so that no message exceeds {@link #MAX_INSERT_MESSAGE_SIZE}. Consecutive
+ * removes of entities are combined into a single <code>_id $in</code> remove. All other writes are applied one by one
+ * in the order they were issued. {@link BeforeConvertEvent}s and {@link BeforeSaveEvent}s are published when an object
+ * is handed to the writer, {@link AfterSaveEvent}s once it has been written.
+ * <p/>
+ * Writes that fail are collected as {@link BulkWriteFailure}s and returned by the next call to {@link #flush()}. If a
+ * multi-document insert fails its documents are retried one by one to isolate the offending ones. Note that failures
+ * are only reported by the database if the template is configured with a safe {@link com.mongodb.WriteConcern}.
+ */
+public class BulkWriter implements DisposableBean {
+
+	private static final Log LOGGER = LogFactory.getLog(BulkWriter.class);
+
+	private static final String ID = "_id";
+
+	/**
+	 * The maximum size in bytes of a single multi-document insert, matching the maximum BSON object size of the driver.
+	 */
+	public static final int MAX_INSERT_MESSAGE_SIZE = 4 * 1024 * 1024;
+
+	public static final int DEFAULT_MAX_BATCH_SIZE = 1000;
+
+	public static final long DEFAULT_MAX_BATCH_BYTES = 16 * 1024 * 1024;
+
+	private final MongoTemplate template;
+
+	private final Map<String, List<PendingWrite>> pendingWrites = new LinkedHashMap<String, List<PendingWrite>>();
+	private final List<BulkWriteFailure> failures = new ArrayList<BulkWriteFailure>();
+
+	private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+	private long maxBatchBytes = DEFAULT_MAX_BATCH_BYTES;
+	private long maxDelay = 0;
+
+	private ScheduledExecutorService scheduler;
+	private boolean ownsScheduler = false;
+	private ScheduledFuture<?> scheduledFlush;
+
+	private int pendingCount = 0;
+	private long pendingBytes = 0;
+
+	/**
+	 * Creates a new {@link BulkWriter} writing through the given {@link MongoTemplate}.
+	 *
+	 * @param template must not be {@literal null}.
+	 */
+	public BulkWriter(MongoTemplate template) {
+		Assert.notNull(template);
+		this.template = template;
+	}
+
+	/**
+	 * Sets the number of buffered writes that triggers a flush. Defaults to {@value #DEFAULT_MAX_BATCH_SIZE}.
+	 *
+	 * @param maxBatchSize
+	 */
+	public void setMaxBatchSize(int maxBatchSize) {
+		Assert.isTrue(maxBatchSize > 0, "Max batch size must be greater than zero!");
+		this.maxBatchSize = maxBatchSize;
+	}
+
+	/**
+	 * Sets the accumulated size in bytes of the buffered documents that triggers a flush. Defaults to 16 MB.
+	 *
+	 * @param maxBatchBytes
+	 */
+	public void setMaxBatchBytes(long maxBatchBytes) {
+		Assert.isTrue(maxBatchBytes > 0, "Max batch bytes must be greater than zero!");
+		this.maxBatchBytes = maxBatchBytes;
+	}
+
+	/**
+	 * Sets the maximum time in milliseconds a write may stay buffered before it is flushed. A value of {@literal 0}
+	 * (the default) disables time based flushing.
+	 *
+	 * @param maxDelay
+	 */
+	public void setMaxDelay(long maxDelay) {
+		Assert.isTrue(maxDelay >= 0, "Max delay must not be negative!");
+		this.maxDelay = maxDelay;
+	}
+
+	/**
+	 * Sets the {@link ScheduledExecutorService} to run time based flushes on. If none is set a single daemon thread is
+	 * created on demand and shut down on {@link #close()}.
+	 *
+	 * @param scheduler
+	 */
+	public synchronized void setScheduler(ScheduledExecutorService scheduler) {
+		this.scheduler = scheduler;
+		this.ownsScheduler = false;
+	}
+
+	/**
+	 * Buffers the given object for insertion into the default collection.
+	 *
+	 * @param objectToSave
+	 */
+	public void insert(Object objectToSave) {
+		Assert.notNull(objectToSave);
+		insert(template.getCollectionName(objectToSave.getClass()), objectToSave);
+	}
+
+	/**
+	 * Buffers the given object for insertion into the specified collection.
+	 *
+	 * @param collectionName
+	 * @param objectToSave
+	 */
+	public void insert(String collectionName, Object objectToSave) {
+		Assert.notNull(objectToSave);
+		add(collectionName, PendingWrite.insert(objectToSave, toDbObject(objectToSave)));
+	}
+
+	/**
+	 * Buffers the given object to be saved into the default collection.
+	 *
+	 * @param objectToSave
+	 */
+	public void save(Object objectToSave) {
+		Assert.notNull(objectToSave);
+		save(template.getCollectionName(objectToSave.getClass()), objectToSave);
+	}
+
+	/**
+	 * Buffers the given object to be saved into the specified collection. Objects that do not carry an id yet are
+	 * written as part of a multi-document insert.
+	 *
+	 * @param collectionName
+	 * @param objectToSave
+	 */
+	public void save(String collectionName, Object objectToSave) {
+		Assert.notNull(objectToSave);
+		DBObject dbDoc = toDbObject(objectToSave);
+		add(collectionName, dbDoc.get(ID) == null ? PendingWrite.insert(objectToSave, dbDoc) : PendingWrite.save(
+				objectToSave, dbDoc));
+	}
+
+	/**
+	 * Buffers an update of the first document matching the given {@link Query} in the default collection of the given
+	 * entity class.
+	 *
+	 * @param entityClass
+	 * @param query
+	 * @param update
+	 */
+	public void updateFirst(Class<?> entityClass, Query query, Update update) {
+		add(template.getCollectionName(entityClass), PendingWrite.update(entityClass, query, update, false));
+	}
+
+	/**
+	 * Buffers an update of the first document matching the given {@link Query} in the specified collection.
+	 *
+	 * @param collectionName
+	 * @param query
+	 * @param update
+	 */
+	public void updateFirst(String collectionName, Query query, Update update) {
+		add(collectionName, PendingWrite.update(null, query, update, false));
+	}
+
+	/**
+	 * Buffers an update of all documents matching the given {@link Query} in the default collection of the given entity
+	 * class.
+	 *
+	 * @param entityClass
+	 * @param query
+	 * @param update
+	 */
+	public void updateMulti(Class<?> entityClass, Query query, Update update) {
+		add(template.getCollectionName(entityClass), PendingWrite.update(entityClass, query, update, true));
+	}
+
+	/**
+	 * Buffers an update of all documents matching the given {@link Query} in the specified collection.
+	 *
+	 * @param collectionName
+	 * @param query
+	 * @param update
+	 */
+	public void updateMulti(String collectionName, Query query, Update update) {
+		add(collectionName, PendingWrite.update(null, query, update, true));
+	}
+
+	/**
+	 * Buffers the removal of the given object from its default collection by id.
+	 *
+	 * @param object
+	 */
+	public void remove(Object object) {
+		Assert.notNull(object);
+		add(template.getCollectionName(object.getClass()), PendingWrite.removeById(object, template.getIdValue(object)));
+	}
+
+	/**
+	 * Buffers the removal of all documents matching the given {@link Query} from the specified collection.
+	 *
+	 * @param collectionName
+	 * @param query
+	 */
+	public void remove(String collectionName, Query query) {
+		Assert.notNull(query);
+		add(collectionName, PendingWrite.remove(query));
+	}
+
+	/**
+	 * Writes all buffered writes to the database.
+	 *
+	 * @return the writes that failed since the last call to this method, including the ones of flushes triggered by the
+	 *         thresholds. Never {@literal null}.
+	 */
+	public synchronized List<BulkWriteFailure> flush() {
+
+		doFlush();
+
+		List<BulkWriteFailure> result = new ArrayList<BulkWriteFailure>(failures);
+		failures.clear();
+		return result;
+	}
+
+	/**
+	 * Flushes all buffered writes and shuts down the scheduler if it was created by this writer.
+	 *
+	 * @return the writes that failed since the last call to {@link #flush()}.
+	 */
+	public synchronized List<BulkWriteFailure> close() {
+
+		List<BulkWriteFailure> result = flush();
+
+		if (ownsScheduler && scheduler != null) {
+			scheduler.shutdown();
+			scheduler = null;
+		}
+
+		return result;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.DisposableBean#destroy()
+	 */
+	public void destroy() {
+		for (BulkWriteFailure failure : close()) {
+			LOGGER.error("Unreported bulk write failure: " + failure);
+		}
+	}
+
+	private DBObject toDbObject(Object objectToSave) {
+
+		BasicDBObject dbDoc = new BasicDBObject();
+
+		template.maybeEmitEvent(new BeforeConvertEvent<Object>(objectToSave));
+		template.getConverter().write(objectToSave, dbDoc);
+		template.maybeEmitEvent(new BeforeSaveEvent<Object>(objectToSave, dbDoc));
+
+		return dbDoc;
+	}
+
+	private synchronized void add(String collectionName, PendingWrite write) {
+
+		Assert.notNull(collectionName);
+
+		List<PendingWrite> writes = pendingWrites.get(collectionName);
+		if (writes == null) {
+			writes = new ArrayList<PendingWrite>();
+			pendingWrites.put(collectionName, writes);
+		}
+
+		writes.add(write);
+		pendingCount++;
+		pendingBytes += write.size;
+
+		if (pendingCount >= maxBatchSize || pendingBytes >= maxBatchBytes) {
+			doFlush();
+		} else {
+			maybeScheduleFlush();
+		}
+	}
+
+	private void maybeScheduleFlush() {
+
+		if (maxDelay <= 0 || scheduledFlush != null) {
+			return;
+		}
+
+		scheduledFlush = getScheduler().schedule(new Runnable() {
+			public void run() {
+				synchronized (BulkWriter.this) {
+					scheduledFlush = null;
+					try {
+						doFlush();
+					} catch (RuntimeException e) {
+						LOGGER.error("Scheduled flush of buffered writes failed", e);
+					}
+				}
+			}
+		}, maxDelay, TimeUnit.MILLISECONDS);
+	}
+
+	private ScheduledExecutorService getScheduler() {
+
+		if (scheduler == null) {
+			scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+				public Thread newThread(Runnable runnable) {
+					Thread thread = new Thread(runnable, "mongo-bulk-writer");
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+			ownsScheduler = true;
+		}
+
+		return scheduler;
+	}
+
+	private void doFlush() {
+
+		if (scheduledFlush != null) {
+			scheduledFlush.cancel(false);
+			scheduledFlush = null;
+		}
+
+		if (pendingCount == 0) {
+			return;
+		}
+
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("flushing " + pendingCount + " buffered writes (" + pendingBytes + " bytes) for collections "
+					+ pendingWrites.keySet());
+		}
+
+		Map<String, List<PendingWrite>> writesToFlush = new LinkedHashMap<String, List<PendingWrite>>(pendingWrites);
+		pendingWrites.clear();
+		pendingCount = 0;
+		pendingBytes = 0;
+
+		for (Map.Entry<String, List<PendingWrite>> entry : writesToFlush.entrySet()) {
+			flushCollection(entry.getKey(), entry.getValue());
+		}
+	}
+
+	private void flushCollection(String collectionName, List<PendingWrite> writes) {
+
+		List<PendingWrite> inserts = new ArrayList<PendingWrite>();
+		List<PendingWrite> removals = new ArrayList<PendingWrite>();
+		long insertBytes = 0;
+
+		for (PendingWrite write : writes) {
+
+			if (write.type == WriteType.INSERT) {
+
+				flushRemovals(collectionName, removals);
+
+				if (!inserts.isEmpty() && insertBytes + write.size > MAX_INSERT_MESSAGE_SIZE) {
+					flushInserts(collectionName, inserts);
+					insertBytes = 0;
+				}
+
+				inserts.add(write);
+				insertBytes += write.size;
+
+			} else if (write.type == WriteType.REMOVE_BY_ID) {
+
+				flushInserts(collectionName, inserts);
+				insertBytes = 0;
+				removals.add(write);
+
+			} else {
+
+				flushInserts(collectionName, inserts);
+				insertBytes = 0;
+				flushRemovals(collectionName, removals);
+				applySingle(collectionName, write);
+			}
+		}
+
+		flushInserts(collectionName, inserts);
+		flushRemovals(collectionName, removals);
+	}
+
+	private void flushInserts(String collectionName, List<PendingWrite> inserts) {
+
+		if (inserts.isEmpty()) {
+			return;
+		}
+
+		List<DBObject> dbDocs = new ArrayList<DBObject>(inserts.size());
+		for (PendingWrite write : inserts) {
+			dbDocs.add(write.dbDoc);
+		}
+
+		try {
+			template.insertDBObjectList(collectionName, dbDocs);
+			for (PendingWrite write : inserts) {
+				afterSave(write, write.dbDoc.get(ID));
+			}
+		} catch (DataAccessException e) {
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("multi-document insert into " + collectionName + " failed, retrying documents one by one", e);
+			}
+			retryInserts(collectionName, inserts);
+		}
+
+		inserts.clear();
+	}
+
+	/**
+	 * Inserts the documents of a failed multi-document insert one by one. The ones inserted before the batch failed hit
+	 * a duplicate key now. A document whose id was generated by the driver is considered written if the collection
+	 * contains a document with that id, as only the batch itself can have stored it. Any other duplicate key, e.g. on a
+	 * secondary unique index, is reported as failure.
+	 *
+	 * @param collectionName
+	 * @param inserts
+	 */
+	private void retryInserts(String collectionName, List<PendingWrite> inserts) {
+
+		for (PendingWrite write : inserts) {
+			try {
+				afterSave(write, template.insertDBObject(collectionName, write.dbDoc));
+			} catch (DuplicateKeyException e) {
+				Object id = write.dbDoc.get(ID);
+				if (write.generatedId && id != null && template.containsDBObject(collectionName, id)) {
+					afterSave(write, id);
+				} else {
+					addFailure(collectionName, write.subject, e);
+				}
+			} catch (DataAccessException e) {
+				addFailure(collectionName, write.subject, e);
+			}
+		}
+	}
+
+	private void flushRemovals(String collectionName, List<PendingWrite> removals) {
+
+		if (removals.isEmpty()) {
+			return;
+		}
+
+		Object[] ids = new Object[removals.size()];
+		for (int i = 0; i < ids.length; i++) {
+			ids[i] = convertIdValue(removals.get(i).id);
+		}
+
+		try {
+			template.remove(collectionName, new Query(where(ID).in(ids)), null);
+		} catch (DataAccessException e) {
+			for (PendingWrite write : removals) {
+				addFailure(collectionName, write.subject, e);
+			}
+		}
+
+		removals.clear();
+	}
+
+	private void applySingle(String collectionName, PendingWrite write) {
+
+		try {
+			switch (write.type) {
+				case SAVE:
+					afterSave(write, template.saveDBObject(collectionName, write.dbDoc));
+					break;
+				case UPDATE:
+					template.doUpdate(collectionName, write.query, write.update, write.entityClass, false, write.multi);
+					break;
+				case REMOVE:
+					template.remove(collectionName, write.query, null);
+					break;
+				default:
+					throw new IllegalStateException("Unexpected write type " + write.type);
+			}
+		} catch (DataAccessException e) {
+			addFailure(collectionName, write.subject, e);
+		}
+	}
+
+	private void afterSave(PendingWrite write, Object id) {
+		template.populateIdIfNecessary(write.subject, id);
+		template.maybeEmitEvent(new AfterSaveEvent<Object>(write.subject, write.dbDoc));
+	}
+
+	private void addFailure(String collectionName, Object subject, DataAccessException e) {
+		LOGGER.warn("Buffered write to collection " + collectionName + " failed: " + e.getMessage());
+		failures.add(new BulkWriteFailure(collectionName, subject, e));
+	}
+
+	private Object convertIdValue(Object id) {
+		if (id instanceof String && ObjectId.isValid((String) id)) {
+			return template.getConverter().convertObjectId(id);
+		}
+		return id;
+	}
+
+	/**
+	 * Returns the size in bytes of the given document once encoded as BSON without actually encoding it. Values of
+	 * types other than the common ones are encoded one by one to determine their size. An {@code _id} generated by the
+	 * driver on insert is accounted for if the document does not carry one yet.
+	 *
+	 * @param dbDoc
+	 * @return
+	 */
+	static int estimateSize(DBObject dbDoc) {
+
+		int size = 5;
+		for (String key : dbDoc.keySet()) {
+			size += elementSize(key, dbDoc.get(key));
+		}
+
+		return dbDoc.get(ID) == null ? size + 2 + ID.length() + 12 : size;
+	}
+
+	private static int elementSize(String key, Object value) {
+		return 2 + utf8Length(key) + valueSize(value);
+	}
+
+	@SuppressWarnings("rawtypes")
+	private static int valueSize(Object value) {
+
+		if (value == null) {
+			return 0;
+		}
+		if (value instanceof String) {
+			return 5 + utf8Length((String) value);
+		}
+		if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+			return 4;
+		}
+		if (value instanceof Long || value instanceof Double || value instanceof Float || value instanceof Date) {
+			return 8;
+		}
+		if (value instanceof Boolean) {
+			return 1;
+		}
+		if (value instanceof ObjectId) {
+			return 12;
+		}
+		if (value instanceof byte[]) {
+			return 9 + ((byte[]) value).length;
+		}
+		if (value instanceof DBRefBase) {
+			DBRefBase ref = (DBRefBase) value;
+			return 5 + elementSize("$ref", ref.getRef()) + elementSize("$id", ref.getId());
+		}
+		if (value instanceof DBObject) {
+			DBObject dbObject = (DBObject) value;
+			int size = 5;
+			for (String key : dbObject.keySet()) {
+				size += elementSize(key, dbObject.get(key));
+			}
+			return size;
+		}
+		if (value instanceof Map) {
+			int size = 5;
+			for (Object entry : ((Map) value).entrySet()) {
+				size += elementSize(String.valueOf(((Map.Entry) entry).getKey()), ((Map.Entry) entry).getValue());
+			}
+			return size;
+		}
+		if (value instanceof Iterable) {
+			int size = 5;
+			int index = 0;
+			for (Object element : (Iterable) value) {
+				size += elementSize(String.valueOf(index++), element);
+			}
+			return size;
+		}
+		if (value.getClass().isArray()) {
+			int size = 5;
+			int length = Array.getLength(value);
+			for (int i = 0; i < length; i++) {
+				size += elementSize(String.valueOf(i), Array.get(value, i));
+			}
+			return size;
+		}
+
+		// less common types such as Pattern, Binary or Code
+		return BSON.encode(new BasicDBObject("v", value)).length - 8;
+	}
+
+	private static int utf8Length(String string) {
+
+		int length = string.length();
+		for (int i = 0; i < string.length(); i++) {
+			char c = string.charAt(i);
+			if (c >= 0x800) {
+				// surrogate pairs take four bytes, two per char
+				length += Character.isHighSurrogate(c) || Character.isLowSurrogate(c) ? 1 : 2;
+			} else if (c >= 0x80) {
+				length++;
+			}
+		}
+
+		return length;
+	}
+
+	private static enum WriteType {
+		INSERT, SAVE, UPDATE, REMOVE_BY_ID, REMOVE
+	}
+
+	/**
+	 * A single buffered write.
+	 */
+	private static class PendingWrite {
+
+		final WriteType type;
+		final Object subject;
+		final DBObject dbDoc;
+		final int size;
+		final boolean generatedId;
+		final Class<?> entityClass;
+		final Query query;
+		final Update update;
+		final boolean multi;
+		final Object id;
+
+		private PendingWrite(WriteType type, Object subject, DBObject dbDoc, Class<?> entityClass, Query query,
+				Update update, boolean multi, Object id) {
+			this.type = type;
+			this.subject = subject;
+			this.dbDoc = dbDoc;
+			this.size = dbDoc == null ? 0 : estimateSize(dbDoc);
+			this.generatedId = dbDoc != null && dbDoc.get(ID) == null;
+			this.entityClass = entityClass;
+			this.query = query;
+			this.update = update;
+			this.multi = multi;
+			this.id = id;
+		}
+
+		static PendingWrite insert(Object objectToSave, DBObject dbDoc) {
+			return new PendingWrite(WriteType.INSERT, objectToSave, dbDoc, null, null, null, false, null);
+		}
+
+		static PendingWrite save(Object objectToSave, DBObject dbDoc) {
+			return new PendingWrite(WriteType.SAVE, objectToSave, dbDoc, null, null, null, false, null);
+		}
+
+		static PendingWrite update(Class<?> entityClass, Query query, Update update, boolean multi) {
+			Assert.notNull(query);
+			Assert.notNull(update);
+			return new PendingWrite(WriteType.UPDATE, query, null, entityClass, query, update, multi, null);
+		}
+
+		static PendingWrite removeById(Object object, Object id) {
+			return new PendingWrite(WriteType.REMOVE_BY_ID, object, null, null, null, null, false, id);
+		}
+
+		static PendingWrite remove(Query query) {
+			return new PendingWrite(WriteType.REMOVE, query, null, null, query, null, false, null);
+		}
+	}
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.document.mongodb;
+
+import java.util.Iterator;
+
+/**
+ * {@link Iterator} over the results of a query that holds on to a server side cursor and thus has to be closed if it
+ * is not consumed completely. Elements are converted lazily on {@link #next()}.
+ */
+public interface CloseableIterator<T> extends Iterator<T> {
+
+  /**
+   * Releases the underlying cursor. Calling this method on an already closed or exhausted iterator has no effect.
+   */
+  void close();
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.document.mongodb;
+
+/**
+ * Callback interface to process the converted documents of a query one by one instead of collecting them into a
+ * {@link java.util.List}.
+ */
+public interface DocumentCallback<T> {
+
+  /**
+   * Processes a single converted document.
+   *
+   * @param document the document read from the cursor, converted into the requested type
+   */
+  void doWithDocument(T document);
+}
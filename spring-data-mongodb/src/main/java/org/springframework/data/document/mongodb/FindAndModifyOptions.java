@@ -0,0 +1,64 @@
+/*
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.document.mongodb;
+
+/**
+ * Provides a simple wrapper to encapsulate the settings of a findAndModify operation. Sort and fields specification are
+ * taken from the {@link org.springframework.data.document.mongodb.query.Query}.
+ */
+public class FindAndModifyOptions {
+
+  private boolean returnNew;
+
+  private boolean upsert;
+
+  /**
+   * Static factory method to create a {@link FindAndModifyOptions} instance returning the document as it was before the
+   * modification and not inserting a document if none matches.
+   *
+   * @return
+   */
+  public static FindAndModifyOptions options() {
+    return new FindAndModifyOptions();
+  }
+
+  /**
+   * @param returnNew true to return the modified document, false to return the document as it was before the
+   *                  modification.
+   * @return
+   */
+  public FindAndModifyOptions returnNew(boolean returnNew) {
+    this.returnNew = returnNew;
+    return this;
+  }
+
+  /**
+   * @param upsert true to insert a new document if none matches the query, false otherwise.
+   * @return
+   */
+  public FindAndModifyOptions upsert(boolean upsert) {
+    this.upsert = upsert;
+    return this;
+  }
+
+  public boolean isReturnNew() {
+    return returnNew;
+  }
+
+  public boolean isUpsert() {
+    return upsert;
+  }
+}
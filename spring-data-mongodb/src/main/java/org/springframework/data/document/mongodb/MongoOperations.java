@@ -303,6 +303,131 @@ public interface MongoOperations {
    */
   <T> List<T> find(String collectionName, Query query, Class<T> targetClass, CursorPreparer preparer);
 
+  /**
+   * Map the results of an ad-hoc query on the default collection of the given entity class to a List of the specified
+   * target type, e.g. a summary class containing only some of the entity's properties.
+   * <p/>
+   * Unless the query carries a fields specification, only the fields backing the properties of the target type are
+   * requested from the server if they are a strict subset of the fields of the entity. The derived fields
+   * specification is computed once per pair of entity class and target type.
+   *
+   * @param query       the query class that specifies the criteria used to find a record and also an optional fields specification
+   * @param entityClass the class of the entity stored in the collection
+   * @param targetClass the parameterized type of the returned list.
+   * @return the List of converted objects
+   */
+  <T> List<T> find(Query query, Class<?> entityClass, Class<T> targetClass);
+
+  /**
+   * Map the results of an ad-hoc query on the specified collection to a List of the specified target type, requesting
+   * only the fields backing the properties of the target type if they are a strict subset of the fields of the entity.
+   *
+   * @param collectionName name of the collection to retrieve the objects from
+   * @param query          the query class that specifies the criteria used to find a record and also an optional fields specification
+   * @param entityClass    the class of the entity stored in the collection
+   * @param targetClass    the parameterized type of the returned list.
+   * @return the List of converted objects
+   * @see #find(Query, Class, Class)
+   */
+  <T> List<T> find(String collectionName, Query query, Class<?> entityClass, Class<T> targetClass);
+
+  /**
+   * Map the results of an ad-hoc query on the default MongoDB collection to the specified type, handing each converted
+   * object to the given {@link DocumentCallback} instead of collecting them into a List.
+   * <p/>
+   * The documents are read from the cursor and converted one at a time, so memory consumption is independent of the
+   * size of the result set.
+   *
+   * @param query       the query class that specifies the criteria used to find a record and also an optional fields specification
+   * @param targetClass the parameterized type of the converted objects.
+   * @param callback    the {@link DocumentCallback} to hand each converted object to.
+   */
+  <T> void find(Query query, Class<T> targetClass, DocumentCallback<T> callback);
+
+  /**
+   * Map the results of an ad-hoc query on the specified collection to the specified type, handing each converted
+   * object to the given {@link DocumentCallback} instead of collecting them into a List.
+   *
+   * @param collectionName name of the collection to retrieve the objects from
+   * @param query          the query class that specifies the criteria used to find a record and also an optional fields specification
+   * @param targetClass    the parameterized type of the converted objects.
+   * @param callback       the {@link DocumentCallback} to hand each converted object to.
+   */
+  <T> void find(String collectionName, Query query, Class<T> targetClass, DocumentCallback<T> callback);
+
+  /**
+   * Map the results of an ad-hoc query on the default MongoDB collection to a {@link CloseableIterator} of the
+   * specified type.
+   * <p/>
+   * Documents are only fetched and converted when the iterator is advanced. The underlying cursor is released once
+   * the iterator is exhausted or the conversion of a document fails. Callers that stop iterating early have to
+   * {@link CloseableIterator#close()} the iterator.
+   *
+   * @param query       the query class that specifies the criteria used to find a record and also an optional fields specification
+   * @param targetClass the parameterized type of the returned iterator.
+   * @return a lazily converting iterator over the query results
+   */
+  <T> CloseableIterator<T> stream(Query query, Class<T> targetClass);
+
+  /**
+   * Map the results of an ad-hoc query on the specified collection to a {@link CloseableIterator} of the specified
+   * type.
+   *
+   * @param collectionName name of the collection to retrieve the objects from
+   * @param query          the query class that specifies the criteria used to find a record and also an optional fields specification
+   * @param targetClass    the parameterized type of the returned iterator.
+   * @return a lazily converting iterator over the query results
+   * @see #stream(Query, Class)
+   */
+  <T> CloseableIterator<T> stream(String collectionName, Query query, Class<T> targetClass);
+
+  /**
+   * Map the results of an ad-hoc query on the specified collection to a {@link CloseableIterator} of the specified
+   * type.
+   *
+   * @param collectionName name of the collection to retrieve the objects from
+   * @param query          the query class that specifies the criteria used to find a record and also an optional fields specification
+   * @param targetClass    the parameterized type of the returned iterator.
+   * @param preparer       allows for customization of the DBCursor used when iterating over the result set,
+   *                       (apply limits, skips and so on).
+   * @return a lazily converting iterator over the query results
+   * @see #stream(Query, Class)
+   */
+  <T> CloseableIterator<T> stream(String collectionName, Query query, Class<T> targetClass, CursorPreparer preparer);
+
+  /**
+   * Reads all documents of the default collection for the entity class matching the given query by splitting the
+   * {@code _id} range into the given number of partitions and reading each partition through its own cursor on a
+   * separate thread. Converted objects are handed to the callback concurrently, so the callback has to be thread-safe.
+   * Documents are not handed out in any particular order.
+   * <p/>
+   * The id range can only be split if all documents use {@link org.bson.types.ObjectId}s as ids and the query does not
+   * restrict the id itself. Otherwise the collection is read through a single cursor on the calling thread. Skip, limit
+   * and sorting are not supported.
+   *
+   * @param targetClass the parameterized type of the objects handed to the callback
+   * @param query       the query class that specifies the criteria used to find the records and also an optional fields
+   *                    specification, may be {@literal null} to read the whole collection
+   * @param partitions  the maximum number of partitions to read concurrently
+   * @param callback    the callback to hand each converted object to
+   */
+  <T> void parallelScan(Class<T> targetClass, Query query, int partitions, DocumentCallback<T> callback);
+
+  /**
+   * Reads all documents of the specified collection matching the given query using the given number of partitions
+   * read concurrently.
+   *
+   * @param collectionName name of the collection to retrieve the objects from
+   * @param targetClass    the parameterized type of the objects handed to the callback
+   * @param query          the query class that specifies the criteria used to find the records and also an optional
+   *                       fields specification, may be {@literal null} to read the whole collection
+   * @param partitions     the maximum number of partitions to read concurrently
+   * @param callback       the callback to hand each converted object to
+   * @see #parallelScan(Class, Query, int, DocumentCallback)
+   */
+  <T> void parallelScan(String collectionName, Class<T> targetClass, Query query, int partitions,
+      DocumentCallback<T> callback);
+
   /**
    * Map the results of an ad-hoc query on the default MongoDB collection to a single instance of an object
    * of the specified type. The first document that matches the query is returned and also removed from the
@@ -341,6 +466,97 @@ public interface MongoOperations {
   <T> T findAndRemove(String collectionName, Query query,
                 Class<T> targetClass);
 
+  /**
+   * Atomically applies the given {@link Update} to the first document in the default collection that matches the query
+   * and returns that document as it was before the modification.
+   * <p/>
+   * Sort and fields specification are taken from the query. The id of the query is mapped using the entity class.
+   *
+   * @param query       the query class that specifies the criteria used to find a record and also an optional fields specification
+   * @param update      the update to apply to the matching document
+   * @param entityClass the parameterized type of the returned object.
+   * @return the converted object or {@literal null} if no document matched
+   */
+  <T> T findAndModify(Query query, Update update, Class<T> entityClass);
+
+  /**
+   * Atomically applies the given {@link Update} to the first document in the default collection that matches the query
+   * and returns either the modified or the original document, as specified by the {@link FindAndModifyOptions}.
+   *
+   * @param query       the query class that specifies the criteria used to find a record and also an optional fields specification
+   * @param update      the update to apply to the matching document
+   * @param options     whether to return the modified document and whether to insert a document if none matches
+   * @param entityClass the parameterized type of the returned object.
+   * @return the converted object or {@literal null} if no document matched and no upsert was requested
+   */
+  <T> T findAndModify(Query query, Update update, FindAndModifyOptions options, Class<T> entityClass);
+
+  /**
+   * Atomically applies the given {@link Update} to the first document in the specified collection that matches the
+   * query and returns either the modified or the original document, as specified by the {@link FindAndModifyOptions}.
+   *
+   * @param collectionName name of the collection to modify the document in
+   * @param query          the query class that specifies the criteria used to find a record and also an optional fields specification
+   * @param update         the update to apply to the matching document
+   * @param options        whether to return the modified document and whether to insert a document if none matches
+   * @param entityClass    the parameterized type of the returned object.
+   * @return the converted object or {@literal null} if no document matched and no upsert was requested
+   */
+  <T> T findAndModify(String collectionName, Query query, Update update, FindAndModifyOptions options,
+                      Class<T> entityClass);
+
+  /**
+   * Returns the number of documents in the default collection of the given entity class that match the given query.
+   * The count is executed on the server, no documents are transferred or converted.
+   *
+   * @param query       the query class that specifies the criteria used to select the documents to count
+   * @param entityClass class that determines the collection to use and is used to map the id in the query
+   * @return the number of matching documents
+   */
+  long count(Query query, Class<?> entityClass);
+
+  /**
+   * Returns the number of documents in the specified collection that match the given query. The count is executed on
+   * the server, no documents are transferred or converted.
+   *
+   * @param collectionName name of the collection to count the documents in
+   * @param query          the query class that specifies the criteria used to select the documents to count
+   * @return the number of matching documents
+   */
+  long count(String collectionName, Query query);
+
+  /**
+   * Returns the number of documents in the specified collection that match the given query. The entity class is used
+   * to map the id in the query.
+   *
+   * @param collectionName name of the collection to count the documents in
+   * @param query          the query class that specifies the criteria used to select the documents to count
+   * @param entityClass    class used to map the id in the query, may be {@literal null}
+   * @return the number of matching documents
+   */
+  long count(String collectionName, Query query, Class<?> entityClass);
+
+  /**
+   * Returns whether a document matching the given query exists in the default collection of the given entity class.
+   * Only the id of at most one document is fetched.
+   *
+   * @param query       the query class that specifies the criteria used to find a record
+   * @param entityClass class that determines the collection to use and is used to map the id in the query
+   * @return true if at least one document matches the query, false otherwise
+   */
+  boolean exists(Query query, Class<?> entityClass);
+
+  /**
+   * Returns whether a document matching the given query exists in the specified collection. Only the id of at most one
+   * document is fetched.
+   *
+   * @param collectionName name of the collection to look for the document in
+   * @param query          the query class that specifies the criteria used to find a record
+   * @param entityClass    class used to map the id in the query, may be {@literal null}
+   * @return true if at least one document matches the query, false otherwise
+   */
+  boolean exists(String collectionName, Query query, Class<?> entityClass);
+
   /**
    * Insert the object into the default collection.
    * <p/>
@@ -478,6 +694,28 @@ public interface MongoOperations {
   WriteResult updateMulti(String collectionName, Query query,
                           Update update);
 
+  /**
+   * Updates the first object that is found in the default collection that matches the query document criteria with the
+   * provided updated document. If no document matches, a new one is created from the query and the update.
+   *
+   * @param query       the query that specifies the criteria used to select a record to be updated
+   * @param update      the update document that contains the updated object or $ operators to manipulate the
+   *                    existing object.
+   * @param entityClass class that determines the collection to use
+   */
+  WriteResult upsert(Query query, Update update, Class<?> entityClass);
+
+  /**
+   * Updates the first object that is found in the specified collection that matches the query document criteria with
+   * the provided updated document. If no document matches, a new one is created from the query and the update.
+   *
+   * @param collectionName name of the collection to update the object in
+   * @param query          the query that specifies the criteria used to select a record to be updated
+   * @param update         the update document that contains the updated object or $ operators to manipulate the
+   *                       existing object.
+   */
+  WriteResult upsert(String collectionName, Query query, Update update);
+
   /**
    * Remove the given object from the collection by Id
    * @param object
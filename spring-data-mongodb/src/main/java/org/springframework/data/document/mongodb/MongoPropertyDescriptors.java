@@ -99,7 +99,9 @@ public class MongoPropertyDescriptors implements Iterable<MongoPropertyDescripto
     static final String ID_KEY = "_id";
 
     private final PropertyDescriptor delegate;
-    private final Class<?> owningType;
+    private final boolean idProperty;
+    private final boolean mappable;
+    private final PropertyStrategy strategy;
 
     /**
      * Creates a new {@link MongoPropertyDescriptor} for the given {@link PropertyDescriptor}.
@@ -110,7 +112,23 @@ public class MongoPropertyDescriptors implements Iterable<MongoPropertyDescripto
     public MongoPropertyDescriptor(PropertyDescriptor descriptor, Class<?> owningType) {
       Assert.notNull(descriptor);
       this.delegate = descriptor;
-      this.owningType = owningType;
+      this.idProperty = ID_PROPERTY.equals(descriptor.getName()) || ID_KEY.equals(descriptor.getName());
+
+      boolean isNotClassAttribute = !descriptor.getName().equals("class");
+      boolean hasGetter = descriptor.getReadMethod() != null;
+      boolean hasField = ReflectionUtils.findField(owningType, descriptor.getName()) != null;
+
+      this.mappable = isNotClassAttribute && hasGetter && hasField;
+      this.strategy = PropertyStrategy.of(this);
+    }
+
+    /**
+     * Returns the {@link PropertyStrategy} derived from the declared property type.
+     *
+     * @return
+     */
+    public PropertyStrategy getStrategy() {
+      return strategy;
     }
 
     /**
@@ -119,7 +137,7 @@ public class MongoPropertyDescriptors implements Iterable<MongoPropertyDescripto
      * @return
      */
     public boolean isIdProperty() {
-      return ID_PROPERTY.equals(delegate.getName()) || ID_KEY.equals(delegate.getName());
+      return idProperty;
     }
 
     /**
@@ -158,12 +176,7 @@ public class MongoPropertyDescriptors implements Iterable<MongoPropertyDescripto
      * @return
      */
     public boolean isMappable() {
-      
-      boolean isNotClassAttribute = !delegate.getName().equals("class");
-      boolean hasGetter = delegate.getReadMethod() != null;
-      boolean hasField = ReflectionUtils.findField(owningType, delegate.getName()) != null;
-      
-      return isNotClassAttribute && hasGetter && hasField;
+      return mappable;
     }
 
     /**
@@ -212,7 +225,7 @@ public class MongoPropertyDescriptors implements Iterable<MongoPropertyDescripto
      * @return
      */
     public boolean isEnum() {
-      return Enum.class.isAssignableFrom(getPropertyType());
+      return strategy == PropertyStrategy.ENUM;
     }
 
     /*
@@ -241,5 +254,48 @@ public class MongoPropertyDescriptors implements Iterable<MongoPropertyDescripto
     public int hashCode() {
       return delegate.hashCode();
     }
+
+    /**
+     * The way a property value has to be handled as far as it can be decided from the declared property type alone.
+     * Properties of any other type have to be inspected value by value as they might hold subtypes.
+     */
+    public static enum PropertyStrategy {
+
+      /**
+       * An {@link Enum} property, written by its name.
+       */
+      ENUM,
+
+      /**
+       * An id property of one of the {@link MongoPropertyDescriptor#SUPPORTED_ID_CLASSES}.
+       */
+      ID,
+
+      /**
+       * A property of a primitive type, whose values never need any conversion.
+       */
+      PRIMITIVE,
+
+      /**
+       * A property whose handling depends on the actual value.
+       */
+      DYNAMIC;
+
+      static PropertyStrategy of(MongoPropertyDescriptor descriptor) {
+
+        Class<?> type = descriptor.getPropertyType();
+
+        if (type == null) {
+          return DYNAMIC;
+        }
+        if (Enum.class.isAssignableFrom(type)) {
+          return ENUM;
+        }
+        if (descriptor.isIdProperty() && descriptor.isOfIdType()) {
+          return ID;
+        }
+        return type.isPrimitive() ? PRIMITIVE : DYNAMIC;
+      }
+    }
   }
 }
\ No newline at end of file
@@ -25,11 +25,24 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.mongodb.BasicDBObject;
+import com.mongodb.Bytes;
 import com.mongodb.CommandResult;
 import com.mongodb.DB;
 import com.mongodb.DBCollection;
@@ -48,6 +61,7 @@ import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.core.convert.ConversionFailedException;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DataRetrievalFailureException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.document.mongodb.MongoPropertyDescriptors.MongoPropertyDescriptor;
 import org.springframework.data.document.mongodb.convert.MappingMongoConverter;
@@ -62,10 +76,14 @@ import org.springframework.data.document.mongodb.mapping.event.AfterSaveEvent;
 import org.springframework.data.document.mongodb.mapping.event.BeforeConvertEvent;
 import org.springframework.data.document.mongodb.mapping.event.BeforeSaveEvent;
 import org.springframework.data.document.mongodb.mapping.event.MongoMappingEvent;
+import org.springframework.data.document.mongodb.monitor.CollectionOperationMetrics;
 import org.springframework.data.document.mongodb.query.Query;
 import org.springframework.data.document.mongodb.query.QueryMapper;
 import org.springframework.data.document.mongodb.query.Update;
+import org.springframework.data.mapping.AssociationHandler;
 import org.springframework.data.mapping.MappingBeanHelper;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mapping.model.Association;
 import org.springframework.data.mapping.model.MappingContext;
 import org.springframework.data.mapping.model.MappingException;
 import org.springframework.jca.cci.core.ConnectionCallback;
@@ -85,6 +103,11 @@ public class MongoTemplate implements MongoOperations, ApplicationEventPublisher
 
 	private static final String ID = "_id";
 
+	/*
+	 * Number of documents read ahead at once to resolve their references in bulk if the query does not set a batch size.
+	 */
+	private static final int DEFAULT_PREFETCH_SIZE = 100;
+
 	/*
 	 * WriteConcern to be used for write operations if it has been specified. Otherwise
 	 * we should not use a WriteConcern defaulting to the one set for the DB or Collection.
@@ -102,6 +125,12 @@ public class MongoTemplate implements MongoOperations, ApplicationEventPublisher
 	private final Mongo mongo;
 	private final MongoExceptionTranslator exceptionTranslator = new MongoExceptionTranslator();
 	private final QueryMapper mapper;
+	private volatile CollectionOperationMetrics operationMetrics;
+	private final SlowOperationLog slowOperationLog = new SlowOperationLog();
+	private final ConcurrentMap<List<Class<?>>, DBObject> projections = new ConcurrentHashMap<List<Class<?>>, DBObject>();
+	private final ConcurrentMap<Class<?>, MappedFields> mappedFields = new ConcurrentHashMap<Class<?>, MappedFields>();
+	private boolean readMappedFieldsOnly = false;
+	private volatile Executor parallelScanExecutor;
 
 	private String databaseName;
 	private String username;
@@ -272,14 +301,37 @@ public class MongoTemplate implements MongoOperations, ApplicationEventPublisher
 	 * @see org.springframework.data.document.mongodb.MongoOperations#execute(org.springframework.data.document.mongodb.CollectionCallback, java.lang.String)
 	 */
 	public <T> T execute(String collectionName, CollectionCallback<T> callback) {
+		return execute(collectionName, "execute", callback);
+	}
+
+	/**
+	 * Executes the given {@link CollectionCallback} against the given collection and records it as the given operation
+	 * if {@link CollectionOperationMetrics} are configured.
+	 *
+	 * @param collectionName the collection to execute the callback against
+	 * @param operation			the name of the operation to record
+	 * @param callback			 the callback to execute
+	 * @return
+	 */
+	private <T> T execute(String collectionName, String operation, CollectionCallback<T> callback) {
 
 		Assert.notNull(callback);
 
+		CollectionOperationMetrics metrics = this.operationMetrics;
+		long start = metrics == null ? 0 : System.nanoTime();
+		boolean failed = true;
+
 		try {
 			DBCollection collection = getDb().getCollection(collectionName);
-			return callback.doInCollection(collection);
+			T result = callback.doInCollection(collection);
+			failed = false;
+			return result;
 		} catch (RuntimeException e) {
 			throw potentiallyConvertRuntimeException(e);
+		} finally {
+			if (metrics != null) {
+				metrics.record(collectionName, operation, System.nanoTime() - start, 0, failed);
+			}
 		}
 	}
 
@@ -293,16 +345,27 @@ public class MongoTemplate implements MongoOperations, ApplicationEventPublisher
 	 * @param collectionCallback the callback to retrieve the {@link DBObject} with
 	 * @param objectCallback		 the {@link DbObjectCallback} to transform {@link DBObject}s into the actual domain type
 	 * @param collectionName		 the collection to be queried
+	 * @param operation					the name of the operation to record
 	 * @return
 	 */
 	private <T> T execute(CollectionCallback<DBObject> collectionCallback,
-												DbObjectCallback<T> objectCallback, String collectionName) {
+												DbObjectCallback<T> objectCallback, String collectionName, String operation) {
+
+		CollectionOperationMetrics metrics = this.operationMetrics;
+		long start = metrics == null ? 0 : System.nanoTime();
+		T result = null;
+		boolean failed = true;
 
 		try {
-			T result = objectCallback.doWith(collectionCallback.doInCollection(getCollection(collectionName)));
+			result = objectCallback.doWith(collectionCallback.doInCollection(getCollection(collectionName)));
+			failed = false;
 			return result;
 		} catch (RuntimeException e) {
 			throw potentiallyConvertRuntimeException(e);
+		} finally {
+			if (metrics != null) {
+				metrics.record(collectionName, operation, System.nanoTime() - start, result == null ? 0 : 1, failed);
+			}
 		}
 	}
 
@@ -312,6 +375,9 @@ public class MongoTemplate implements MongoOperations, ApplicationEventPublisher
 	 * {@link DBCursor}.</li> <li>Prepare that {@link DBCursor} with the given {@link CursorPreparer} (will be skipped
 	 * if {@link CursorPreparer} is {@literal null}</li> <li>Iterate over the {@link DBCursor} and applies the given
 	 * {@link DbObjectCallback} to each of the {@link DBObject}s collecting the actual result {@link List}.</li> <ol>
+	 * If the {@link DbObjectCallback} requires preparation, the results are read in pages of the cursor's batch size so
+	 * that it can prepare converting each page in bulk, e.g. by resolving references with a single query. Otherwise
+	 * they are converted straight from the cursor.
 	 *
 	 * @param <T>
 	 * @param collectionCallback the callback to retrieve the {@link DBCursor} with
@@ -323,25 +389,93 @@ public class MongoTemplate implements MongoOperations, ApplicationEventPublisher
 	private <T> List<T> executeEach(CollectionCallback<DBCursor> collectionCallback, CursorPreparer preparer,
 																	DbObjectCallback<T> objectCallback, String collectionName) {
 
+		int prefetchSize = objectCallback.requiresPreparation() ? getPrefetchSize(preparer) : 0;
+		CloseableIterator<T> iterator = executeStream(collectionCallback, preparer, objectCallback, collectionName,
+				prefetchSize);
+
 		try {
-			DBCursor cursor = collectionCallback.doInCollection(getCollection(collectionName));
+			List<T> result = new ArrayList<T>();
 
-			if (preparer != null) {
-				cursor = preparer.prepare(cursor);
+			while (iterator.hasNext()) {
+				result.add(iterator.next());
 			}
 
-			List<T> result = new ArrayList<T>();
+			return result;
+		} finally {
+			iterator.close();
+		}
+	}
+
+	/**
+	 * Central callback executing method to do queries against the datastore that returns the result lazily. It will
+	 * take the following steps <ol> <li>Execute the given {@link ConnectionCallback} for a {@link DBCursor}.</li>
+	 * <li>Prepare that {@link DBCursor} with the given {@link CursorPreparer} (will be skipped if {@link CursorPreparer}
+	 * is {@literal null}</li> <li>Wrap the {@link DBCursor} into a {@link CloseableIterator} that applies the given
+	 * {@link DbObjectCallback} to each {@link DBObject} as it is pulled from the cursor.</li> <ol>
+	 *
+	 * @param <T>
+	 * @param collectionCallback the callback to retrieve the {@link DBCursor} with
+	 * @param preparer					 the {@link CursorPreparer} to potentially modify the {@link DBCursor} before ireating over it
+	 * @param objectCallback		 the {@link DbObjectCallback} to transform {@link DBObject}s into the actual domain type
+	 * @param collectionName		 the collection to be queried
+	 * @return
+	 */
+	private <T> CloseableIterator<T> executeStream(CollectionCallback<DBCursor> collectionCallback,
+																								 CursorPreparer preparer, DbObjectCallback<T> objectCallback, String collectionName) {
+		return executeStream(collectionCallback, preparer, objectCallback, collectionName, 0);
+	}
+
+	private <T> CloseableIterator<T> executeStream(CollectionCallback<DBCursor> collectionCallback,
+																								 CursorPreparer preparer, DbObjectCallback<T> objectCallback, String collectionName,
+																								 int prefetchSize) {
+
+		CollectionOperationMetrics metrics = this.operationMetrics;
+		boolean timed = metrics != null || slowOperationLog.isEnabled();
+		long start = timed ? System.nanoTime() : 0;
+		DBCursor cursor = null;
+
+		try {
+			DBCollection collection = getCollection(collectionName);
+			cursor = collectionCallback.doInCollection(collection);
 
-			for (DBObject object : cursor) {
-				result.add(objectCallback.doWith(object));
+			if (preparer != null) {
+				cursor = preparer.prepare(cursor);
 			}
 
-			return result;
+			DbCursorIterator<T> iterator = new DbCursorIterator<T>(cursor, objectCallback, collectionName, metrics, start,
+					prefetchSize);
+			if (slowOperationLog.isEnabled()) {
+				iterator.setSlowOperationDetails(collection, collectionCallback, preparer);
+			}
+			return iterator;
 		} catch (RuntimeException e) {
+			closeQuietly(cursor);
+			if (metrics != null) {
+				metrics.record(collectionName, "find", System.nanoTime() - start, 0, true);
+			}
 			throw potentiallyConvertRuntimeException(e);
 		}
 	}
 
+	/**
+	 * Returns the number of documents to read ahead and prepare at once, which is the batch size of the given
+	 * {@link CursorPreparer}'s {@link Query} if set, {@value #DEFAULT_PREFETCH_SIZE} otherwise.
+	 *
+	 * @param preparer
+	 * @return
+	 */
+	private static int getPrefetchSize(CursorPreparer preparer) {
+
+		if (preparer instanceof QueryCursorPreparer) {
+			int batchSize = ((QueryCursorPreparer) preparer).query.getBatchSize();
+			if (batchSize > 0) {
+				return batchSize;
+			}
+		}
+
+		return DEFAULT_PREFETCH_SIZE;
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.document.mongodb.MongoOperations#executeInSession(org.springframework.data.document.mongodb.DBCallback)
 	 */
@@ -401,7 +535,7 @@ public class MongoTemplate implements MongoOperations, ApplicationEventPublisher
 	 */
 	public void dropCollection(String collectionName) {
 
-		execute(collectionName, new CollectionCallback<Void>() {
+		execute(collectionName, "dropCollection", new CollectionCallback<Void>() {
 			public Void doInCollection(DBCollection collection) throws MongoException, DataAccessException {
 				collection.drop();
 				return null;
@@ -416,7 +550,7 @@ public class MongoTemplate implements MongoOperations, ApplicationEventPublisher
 	}
 
 	public void ensureIndex(String collectionName, final IndexDefinition indexDefinition) {
-		execute(collectionName, new CollectionCallback<Object>() {
+		execute(collectionName, "ensureIndex", new CollectionCallback<Object>() {
 			public Object doInCollection(DBCollection collection) throws MongoException, DataAccessException {
 				DBObject indexOptions = indexDefinition.getIndexOptions();
 				if (indexOptions != null) {
@@ -447,30 +581,7 @@ public class MongoTemplate implements MongoOperations, ApplicationEventPublisher
 	}
 
 	public <T> List<T> find(String collectionName, final Query query, Class<T> targetClass) {
-		CursorPreparer cursorPreparer = null;
-		if (query.getSkip() > 0 || query.getLimit() > 0 || query.getSortObject() != null) {
-			cursorPreparer = new CursorPreparer() {
-
-				public DBCursor prepare(DBCursor cursor) {
-					DBCursor cursorToUse = cursor;
-					try {
-						if (query.getSkip() > 0) {
-							cursorToUse = cursorToUse.skip(query.getSkip());
-						}
-						if (query.getLimit() > 0) {
-							cursorToUse = cursorToUse.limit(query.getLimit());
-						}
-						if (query.getSortObject() != null) {
-							cursorToUse = cursorToUse.sort(query.getSortObject());
-						}
-					} catch (RuntimeException e) {
-						throw potentiallyConvertRuntimeException(e);
-					}
-					return cursorToUse;
-				}
-			};
-		}
-		return doFind(collectionName, query.getQueryObject(), query.getFieldsObject(), targetClass, cursorPreparer);
+		return doFind(collectionName, query.getQueryObject(), query.getFieldsObject(), targetClass, getCursorPreparer(query));
 	}
 
 	public <T> List<T> find(String collectionName, Query query,
@@ -478,6 +589,74 @@ public class MongoTemplate implements MongoOperations, ApplicationEventPublisher
 		return doFind(collectionName, query.getQueryObject(), query.getFieldsObject(), targetClass, preparer);
 	}
 
+	public <T> List<T> find(Query query, Class<?> entityClass, Class<T> targetClass) {
+		return find(determineCollectionName(entityClass), query, entityClass, targetClass);
+	}
+
+	public <T> List<T> find(String collectionName, Query query, Class<?> entityClass, Class<T> targetClass) {
+		DBObject fields = query.getFieldsObject();
+		if (fields == null) {
+			fields = getProjection(entityClass, targetClass);
+		}
+		return doFind(collectionName, query.getQueryObject(), fields, targetClass, getCursorPreparer(query));
+	}
+
+	// Find methods that take a Query to express the query and that hand the converted objects to a callback or return
+	// them through a lazily converting iterator.
+
+	public <T> void find(Query query, Class<T> targetClass, DocumentCallback<T> callback) {
+		find(determineCollectionName(targetClass), query, targetClass, callback);
+	}
+
+	public <T> void find(String collectionName, Query query, Class<T> targetClass, DocumentCallback<T> callback) {
+
+		Assert.notNull(callback);
+		CloseableIterator<T> iterator = stream(collectionName, query, targetClass);
+
+		try {
+			while (iterator.hasNext()) {
+				callback.doWithDocument(iterator.next());
+			}
+		} finally {
+			iterator.close();
+		}
+	}
+
+	public <T> CloseableIterator<T> stream(Query query, Class<T> targetClass) {
+		return stream(determineCollectionName(targetClass), query, targetClass);
+	}
+
+	public <T> CloseableIterator<T> stream(String collectionName, Query query, Class<T> targetClass) {
+		return stream(collectionName, query, targetClass, getCursorPreparer(query));
+	}
+
+	public <T> CloseableIterator<T> stream(String collectionName, Query query, Class<T> targetClass,
+																				 CursorPreparer preparer) {
+		return doStream(collectionName, query.getQueryObject(), query.getFieldsObject(), targetClass, preparer);
+	}
+
+	// Parallel scans that split the _id range of a collection into partitions read concurrently.
+
+	public <T> void parallelScan(Class<T> targetClass, Query query, int partitions, DocumentCallback<T> callback) {
+		parallelScan(determineCollectionName(targetClass), targetClass, query, partitions, callback);
+	}
+
+	public <T> void parallelScan(String collectionName, Class<T> targetClass, Query query, int partitions,
+															 DocumentCallback<T> callback) {
+
+		Assert.notNull(callback);
+		Assert.isTrue(partitions > 0, "Number of partitions must be greater than zero!");
+		Query queryToUse = query == null ? new Query() : query;
+		if (queryToUse.getSkip() > 0 || queryToUse.getLimit() > 0) {
+			throw new InvalidDataAccessApiUsageException("Skip and limit are not supported for parallel scans!");
+		}
+		if (queryToUse.getSortObject() != null) {
+			throw new InvalidDataAccessApiUsageException("Sorting is not supported for parallel scans!");
+		}
+		doParallelScan(collectionName, queryToUse.getQueryObject(), queryToUse.getFieldsObject(), targetClass, partitions,
+				callback);
+	}
+
 	// Find methods that take a Query to express the query and that return a single object that is
 	// also removed from the collection in the database.
 
@@ -490,6 +669,45 @@ public class MongoTemplate implements MongoOperations, ApplicationEventPublisher
 		return doFindAndRemove(collectionName, query.getQueryObject(), query.getFieldsObject(), query.getSortObject(), targetClass);
 	}
 
+	// Find methods that take a Query to express the query and that return a single object that is
+	// atomically modified in the database by an Update.
+
+	public <T> T findAndModify(Query query, Update update, Class<T> entityClass) {
+		return findAndModify(query, update, new FindAndModifyOptions(), entityClass);
+	}
+
+	public <T> T findAndModify(Query query, Update update, FindAndModifyOptions options, Class<T> entityClass) {
+		return findAndModify(determineCollectionName(entityClass), query, update, options, entityClass);
+	}
+
+	public <T> T findAndModify(String collectionName, Query query, Update update, FindAndModifyOptions options,
+														 Class<T> entityClass) {
+		return doFindAndModify(collectionName, query.getQueryObject(), query.getFieldsObject(), query.getSortObject(),
+				entityClass, update, options);
+	}
+
+	// Count and existence checks executed on the server.
+
+	public long count(Query query, Class<?> entityClass) {
+		return count(determineCollectionName(entityClass), query, entityClass);
+	}
+
+	public long count(String collectionName, Query query) {
+		return count(collectionName, query, null);
+	}
+
+	public long count(String collectionName, Query query, Class<?> entityClass) {
+		return doCount(collectionName, query == null ? null : query.getQueryObject(), entityClass);
+	}
+
+	public boolean exists(Query query, Class<?> entityClass) {
+		return exists(determineCollectionName(entityClass), query, entityClass);
+	}
+
+	public boolean exists(String collectionName, Query query, Class<?> entityClass) {
+		return doExists(collectionName, query == null ? null : query.getQueryObject(), entityClass);
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.document.mongodb.MongoOperations#insert(java.lang.Object)
 	 */
@@ -628,7 +846,7 @@ public class MongoTemplate implements MongoOperations, ApplicationEventPublisher
 		if (LOGGER.isDebugEnabled()) {
 			LOGGER.debug("insert DBObject containing fields: " + dbDoc.keySet() + " in collection: " + collectionName);
 		}
-		return execute(collectionName, new CollectionCallback<Object>() {
+		return execute(collectionName, "insert", new CollectionCallback<Object>() {
 			public Object doInCollection(DBCollection collection) throws MongoException, DataAccessException {
 				if (writeConcern == null) {
 					collection.insert(dbDoc);
@@ -660,7 +878,7 @@ public class MongoTemplate implements MongoOperations, ApplicationEventPublisher
 		if (LOGGER.isDebugEnabled()) {
 			LOGGER.debug("insert list of DBObjects containing " + dbDocList.size() + " items");
 		}
-		execute(collectionName, new CollectionCallback<Void>() {
+		execute(collectionName, "insert", new CollectionCallback<Void>() {
 			public Void doInCollection(DBCollection collection) throws MongoException, DataAccessException {
 				if (writeConcern == null) {
 					collection.insert(dbDocList);
@@ -684,6 +902,22 @@ public class MongoTemplate implements MongoOperations, ApplicationEventPublisher
 		return ids;
 	}
 
+	/**
+	 * Returns whether the given collection contains a document with the given id.
+	 *
+	 * @param collectionName
+	 * @param id
+	 * @return
+	 */
+	protected boolean containsDBObject(String collectionName, final Object id) {
+
+		return execute(collectionName, "findOne", new CollectionCallback<Boolean>() {
+			public Boolean doInCollection(DBCollection collection) throws MongoException, DataAccessException {
+				return collection.findOne(new BasicDBObject(ID, id), new BasicDBObject(ID, 1)) != null;
+			}
+		});
+	}
+
 	protected Object saveDBObject(String collectionName, final DBObject dbDoc) {
 
 		if (dbDoc.keySet().isEmpty()) {
@@ -702,7 +936,7 @@ public class MongoTemplate implements MongoOperations, ApplicationEventPublisher
 		if (LOGGER.isDebugEnabled()) {
 			LOGGER.debug("save DBObject containing fields: " + dbDoc.keySet());
 		}
-		return execute(collectionName, new CollectionCallback<Object>() {
+		return execute(collectionName, "save", new CollectionCallback<Object>() {
 			public Object doInCollection(DBCollection collection) throws MongoException, DataAccessException {
 				if (writeConcern == null) {
 					collection.save(dbDoc);
@@ -742,6 +976,20 @@ public class MongoTemplate implements MongoOperations, ApplicationEventPublisher
 		return doUpdate(collectionName, query, update, null, false, true);
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.document.mongodb.MongoOperations#upsert(org.springframework.data.document.mongodb.query.Query, org.springframework.data.document.mongodb.query.Update, java.lang.Class)
+	 */
+	public WriteResult upsert(Query query, Update update, Class<?> entityClass) {
+		return doUpdate(determineCollectionName(entityClass), query, update, entityClass, true, false);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.document.mongodb.MongoOperations#upsert(java.lang.String, org.springframework.data.document.mongodb.query.Query, org.springframework.data.document.mongodb.query.Update)
+	 */
+	public WriteResult upsert(String collectionName, Query query, Update update) {
+		return doUpdate(collectionName, query, update, null, true, false);
+	}
+
 	protected WriteResult doUpdate(final String collectionName,
 															 final Query query,
 															 final Update update,
@@ -749,43 +997,29 @@ public class MongoTemplate implements MongoOperations, ApplicationEventPublisher
 															 final boolean upsert,
 															 final boolean multi) {
 
-		return execute(collectionName, new CollectionCallback<WriteResult>() {
+		return execute(collectionName, "update", new CollectionCallback<WriteResult>() {
 			public WriteResult doInCollection(DBCollection collection) throws MongoException, DataAccessException {
-				DBObject queryObj = query.getQueryObject();
-				DBObject updateObj = update.getUpdateObject();
+				DBObject queryObj = mapper.getMappedObject(query.getQueryObject(), getPersistentEntity(entityClass));
+				DBObject updateObj = getMappedUpdateObject(update);
 
-				String idProperty = "id";
-				if (null != entityClass) {
-					idProperty = getPersistentEntity(entityClass).getIdProperty().getName();
-				}
 				for (String key : queryObj.keySet()) {
-					if (idProperty.equals(key)) {
-						// This is an ID field
-						queryObj.put(ID, mongoConverter.maybeConvertObject(queryObj.get(key)));
-						queryObj.removeField(key);
-					} else {
-						queryObj.put(key, mongoConverter.maybeConvertObject(queryObj.get(key)));
-					}
-				}
-
-				for (String key : updateObj.keySet()) {
-					updateObj.put(key, mongoConverter.maybeConvertObject(updateObj.get(key)));
+					queryObj.put(key, mongoConverter.maybeConvertObject(queryObj.get(key)));
 				}
 
 				if (LOGGER.isDebugEnabled()) {
 					LOGGER.debug("calling update using query: " + queryObj + " and update: " + updateObj + " in collection: " + collectionName);
 				}
 
+				long start = slowOperationLog.isEnabled() ? System.nanoTime() : 0;
 				WriteResult wr;
 				if (writeConcern == null) {
-					if (multi) {
-						wr = collection.updateMulti(queryObj, updateObj);
-					} else {
-						wr = collection.update(queryObj, updateObj);
-					}
+					wr = collection.update(queryObj, updateObj, upsert, multi);
 				} else {
 					wr = collection.update(queryObj, updateObj, upsert, multi, writeConcern);
 				}
+				if (slowOperationLog.isEnabled()) {
+					slowOperationLog.logIfSlow("update", collection, queryObj, System.nanoTime() - start);
+				}
 				handleAnyWriteResultErrors(wr, queryObj, "update with '" + updateObj + "'");
 				return wr;
 			}
@@ -819,15 +1053,19 @@ public class MongoTemplate implements MongoOperations, ApplicationEventPublisher
 		if (LOGGER.isDebugEnabled()) {
 			LOGGER.debug("remove using query: " + queryObject + " in collection: " + collectionName);
 		}
-		execute(collectionName, new CollectionCallback<Void>() {
+		execute(collectionName, "remove", new CollectionCallback<Void>() {
 			public Void doInCollection(DBCollection collection) throws MongoException, DataAccessException {
 				DBObject dboq = mapper.getMappedObject(queryObject, entity);
+				long start = slowOperationLog.isEnabled() ? System.nanoTime() : 0;
 				WriteResult wr = null;
 				if (writeConcern == null) {
 					wr = collection.remove(dboq);
 				} else {
 					wr = collection.remove(dboq, writeConcern);
 				}
+				if (slowOperationLog.isEnabled()) {
+					slowOperationLog.logIfSlow("remove", collection, dboq, System.nanoTime() - start);
+				}
 				handleAnyWriteResultErrors(wr, dboq, "remove");
 				return null;
 			}
@@ -906,9 +1144,9 @@ public class MongoTemplate implements MongoOperations, ApplicationEventPublisher
 		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(targetClass);
 		DBObject mappedQuery = mapper.getMappedObject(query, entity);
 
-		return execute(new FindOneCallback(mappedQuery, fields),
+		return execute(new FindOneCallback(mappedQuery, getFieldsToRead(fields, targetClass)),
 				new ReadDbObjectCallback<T>(readerToUse, targetClass),
-				collectionName);
+				collectionName, "findOne");
 	}
 
 	/**
@@ -935,7 +1173,7 @@ public class MongoTemplate implements MongoOperations, ApplicationEventPublisher
 		if (LOGGER.isDebugEnabled()) {
 			LOGGER.debug("find using query: " + query + " fields: " + fields + " for class: " + targetClass + " in collection: " + collectionName);
 		}
-		return executeEach(new FindCallback(mapper.getMappedObject(query, entity), fields),
+		return executeEach(new FindCallback(mapper.getMappedObject(query, entity), getFieldsToRead(fields, targetClass)),
 				preparer,
 				new ReadDbObjectCallback<T>(mongoConverter, targetClass),
 				collectionName);
@@ -959,12 +1197,260 @@ public class MongoTemplate implements MongoOperations, ApplicationEventPublisher
 		}
 		MongoReader<? super T> readerToUse = this.mongoConverter;
 		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(targetClass);
-		return executeEach(new FindCallback(mapper.getMappedObject(query, entity), fields),
+		return executeEach(new FindCallback(mapper.getMappedObject(query, entity), getFieldsToRead(fields, targetClass)),
 				null,
 				new ReadDbObjectCallback<T>(readerToUse, targetClass),
 				collectionName);
 	}
 
+	/**
+	 * Map the results of an ad-hoc query on the default MongoDB collection to a {@link CloseableIterator} of the
+	 * specified type. Documents are converted as the iterator is advanced.
+	 * <p/>
+	 * The query document is specified as a standard DBObject and so is the fields specification.
+	 * <p/>
+	 * Can be overridden by subclasses.
+	 *
+	 * @param collectionName name of the collection to retrieve the objects from
+	 * @param query					the query document that specifies the criteria used to find a record
+	 * @param fields				 the document that specifies the fields to be returned
+	 * @param targetClass		the parameterized type of the returned iterator.
+	 * @param preparer			 allows for customization of the DBCursor used when iterating over the result set,
+	 *                       (apply limits, skips and so on).
+	 * @return a lazily converting iterator over the query results.
+	 */
+	protected <T> CloseableIterator<T> doStream(String collectionName, DBObject query, DBObject fields, Class<T> targetClass, CursorPreparer preparer) {
+		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(targetClass);
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("stream using query: " + query + " fields: " + fields + " for class: " + targetClass + " in collection: " + collectionName);
+		}
+		return doStreamMapped(collectionName, mapper.getMappedObject(query, entity), fields, targetClass, preparer);
+	}
+
+	private <T> CloseableIterator<T> doStreamMapped(String collectionName, DBObject mappedQuery, DBObject fields,
+																									 Class<T> targetClass, CursorPreparer preparer) {
+		return executeStream(new FindCallback(mappedQuery, getFieldsToRead(fields, targetClass)),
+				preparer,
+				new ReadDbObjectCallback<T>(mongoConverter, targetClass),
+				collectionName);
+	}
+
+	/**
+	 * Reads all documents matching the given query document by splitting the {@code _id} range between the smallest and
+	 * the largest matching {@link ObjectId} into partitions of equal time span and reading each of them through a
+	 * cursor of its own using the {@link #setParallelScanExecutor(Executor) parallel scan executor}. Falls back to a
+	 * single cursor read on the calling thread if the range cannot be split. Documents are handed to the callback in no
+	 * particular order.
+	 *
+	 * @param collectionName name of the collection to retrieve the objects from
+	 * @param query					the query document that specifies the criteria used to find the records
+	 * @param fields				 the document that specifies the fields to be returned
+	 * @param targetClass		the parameterized type of the objects handed to the callback.
+	 * @param partitions		 the maximum number of partitions to read concurrently
+	 * @param callback			 the callback to hand the converted objects to
+	 */
+	protected <T> void doParallelScan(final String collectionName, final DBObject query, final DBObject fields,
+																		final Class<T> targetClass, int partitions, final DocumentCallback<T> callback) {
+
+		DBObject mappedQuery = mapper.getMappedObject(query, mappingContext.getPersistentEntity(targetClass));
+		List<DBObject> partitionQueries = partitions > 1 ?
+				getPartitionQueries(collectionName, mappedQuery, partitions) : null;
+
+		if (partitionQueries == null) {
+			scanPartition(collectionName, mappedQuery, fields, targetClass, callback);
+			return;
+		}
+
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("parallel scan using " + partitionQueries.size() + " partitions: " + partitionQueries + " for class: " + targetClass + " in collection: " + collectionName);
+		}
+
+		Executor executor = getParallelScanExecutor();
+		List<Future<?>> futures = new ArrayList<Future<?>>(partitionQueries.size());
+
+		try {
+			for (final DBObject partitionQuery : partitionQueries) {
+				FutureTask<Object> task = new FutureTask<Object>(new Runnable() {
+					public void run() {
+						scanPartition(collectionName, partitionQuery, fields, targetClass, callback);
+					}
+				}, null);
+				futures.add(task);
+				executor.execute(task);
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw potentiallyConvertRuntimeException((RuntimeException) cause);
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new DataRetrievalFailureException("Parallel scan of collection " + collectionName + " failed", cause);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DataRetrievalFailureException("Interrupted during parallel scan of collection " + collectionName, e);
+		} finally {
+			// stop the partitions still running if one of them failed
+			for (Future<?> future : futures) {
+				future.cancel(true);
+			}
+		}
+	}
+
+	/**
+	 * Returns the {@link Executor} to read the partitions of parallel scans with, creating the default one on first use.
+	 *
+	 * @return
+	 */
+	private Executor getParallelScanExecutor() {
+
+		Executor executor = parallelScanExecutor;
+		if (executor == null) {
+			synchronized (this) {
+				executor = parallelScanExecutor;
+				if (executor == null) {
+					executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), new ThreadFactory() {
+
+						private final AtomicInteger counter = new AtomicInteger();
+
+						public Thread newThread(Runnable runnable) {
+							Thread thread = new Thread(runnable, "mongo-scan-" + counter.incrementAndGet());
+							thread.setDaemon(true);
+							return thread;
+						}
+					});
+					parallelScanExecutor = executor;
+				}
+			}
+		}
+		return executor;
+	}
+
+	/**
+	 * Returns the query documents for the partitions of a parallel scan or {@literal null} if the matching documents
+	 * cannot be partitioned by their id, e.g. because the query already restricts the id.
+	 *
+	 * @param collectionName name of the collection to scan
+	 * @param mappedQuery		the mapped query document to restrict the partitions by
+	 * @param partitions		 the maximum number of partitions
+	 * @return the mapped partition queries or {@literal null}.
+	 */
+	private List<DBObject> getPartitionQueries(String collectionName, final DBObject mappedQuery, int partitions) {
+
+		if (mappedQuery.containsField(ID)) {
+			return null;
+		}
+
+		Object[] bounds = execute(collectionName, "parallelScan", new CollectionCallback<Object[]>() {
+			public Object[] doInCollection(DBCollection collection) throws MongoException, DataAccessException {
+				return new Object[] { findBoundaryId(collection, mappedQuery, 1), findBoundaryId(collection, mappedQuery, -1) };
+			}
+		});
+
+		// Ids sort by type first, so all ids are ObjectIds if both the smallest and the largest one are
+		if (!(bounds[0] instanceof ObjectId) || !(bounds[1] instanceof ObjectId)) {
+			return null;
+		}
+
+		long first = ((ObjectId) bounds[0]).getTime() / 1000;
+		long span = ((ObjectId) bounds[1]).getTime() / 1000 - first + 1;
+		int partitionCount = (int) Math.min(partitions, span);
+		if (partitionCount < 2) {
+			return null;
+		}
+
+		List<DBObject> partitionQueries = new ArrayList<DBObject>(partitionCount);
+		ObjectId lower = null;
+		for (int i = 1; i <= partitionCount; i++) {
+			ObjectId upper = i == partitionCount ? null : new ObjectId((int) (first + span * i / partitionCount), 0, 0);
+			DBObject idRange = new BasicDBObject();
+			if (lower != null) {
+				idRange.put("$gte", lower);
+			}
+			if (upper != null) {
+				idRange.put("$lt", upper);
+			}
+			DBObject partitionQuery = new BasicDBObject(mappedQuery.toMap());
+			partitionQuery.put(ID, idRange);
+			partitionQueries.add(partitionQuery);
+			lower = upper;
+		}
+		return partitionQueries;
+	}
+
+	private <T> void scanPartition(String collectionName, DBObject mappedQuery, DBObject fields, Class<T> targetClass,
+																 DocumentCallback<T> callback) {
+		CloseableIterator<T> iterator = doStreamMapped(collectionName, mappedQuery, fields, targetClass, null);
+		try {
+			while (iterator.hasNext()) {
+				callback.doWithDocument(iterator.next());
+			}
+		} finally {
+			iterator.close();
+		}
+	}
+
+	private static Object findBoundaryId(DBCollection collection, DBObject query, int direction) {
+		DBCursor cursor = collection.find(query, new BasicDBObject(ID, 1)).sort(new BasicDBObject(ID, direction)).limit(1);
+		try {
+			return cursor.hasNext() ? cursor.next().get(ID) : null;
+		} finally {
+			closeQuietly(cursor);
+		}
+	}
+
+	/**
+	 * Counts the documents in the given collection matching the given query document on the server.
+	 *
+	 * @param collectionName name of the collection to count the documents in
+	 * @param query					the query document that specifies the criteria used to select the documents, may be {@literal null}
+	 * @param entityClass		the class used to map the id in the query, may be {@literal null}
+	 * @return the number of matching documents.
+	 */
+	protected long doCount(final String collectionName, DBObject query, Class<?> entityClass) {
+		final DBObject mappedQuery = query == null ? new BasicDBObject() : mapper.getMappedObject(query,
+				getPersistentEntity(entityClass));
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("count using query: " + mappedQuery + " in collection: " + collectionName);
+		}
+		return execute(collectionName, "count", new CollectionCallback<Long>() {
+			public Long doInCollection(DBCollection collection) throws MongoException, DataAccessException {
+				return collection.count(mappedQuery);
+			}
+		});
+	}
+
+	/**
+	 * Checks whether a document matching the given query document exists in the given collection by fetching the id of
+	 * at most one document.
+	 *
+	 * @param collectionName name of the collection to look for the document in
+	 * @param query					the query document that specifies the criteria used to find a record, may be {@literal null}
+	 * @param entityClass		the class used to map the id in the query, may be {@literal null}
+	 * @return true if a matching document exists.
+	 */
+	protected boolean doExists(final String collectionName, DBObject query, Class<?> entityClass) {
+		final DBObject mappedQuery = query == null ? new BasicDBObject() : mapper.getMappedObject(query,
+				getPersistentEntity(entityClass));
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("exists using query: " + mappedQuery + " in collection: " + collectionName);
+		}
+		return execute(collectionName, "exists", new CollectionCallback<Boolean>() {
+			public Boolean doInCollection(DBCollection collection) throws MongoException, DataAccessException {
+				DBCursor cursor = collection.find(mappedQuery, new BasicDBObject(ID, 1)).limit(1);
+				try {
+					return cursor.hasNext();
+				} finally {
+					closeQuietly(cursor);
+				}
+			}
+		});
+	}
+
 	protected DBObject convertToDbObject(CollectionOptions collectionOptions) {
 		DBObject dbo = new BasicDBObject();
 		if (collectionOptions != null) {
@@ -1001,7 +1487,51 @@ public class MongoTemplate implements MongoOperations, ApplicationEventPublisher
 		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(targetClass);
 		return execute(new FindAndRemoveCallback(mapper.getMappedObject(query, entity), fields, sort),
 				new ReadDbObjectCallback<T>(readerToUse, targetClass),
-				collectionName);
+				collectionName, "findAndRemove");
+	}
+
+	/**
+	 * Map the result of the given query, after applying the given {@link Update} to the first matching document
+	 * atomically, to an object of the specified type.
+	 * <p/>
+	 * The query document is specified as a standard DBObject and so is the fields specification.
+	 *
+	 * @param collectionName name of the collection to modify the object in
+	 * @param query					the query document that specifies the criteria used to find a record
+	 * @param fields				 the document that specifies the fields to be returned
+	 * @param sort					 the document that determines which record is modified if several match
+	 * @param entityClass		the parameterized type of the returned object.
+	 * @param update				 the update to apply to the matching record
+	 * @param options				the {@link FindAndModifyOptions} to use, defaults apply if {@literal null}
+	 * @return the converted object or {@literal null} if no record matched.
+	 */
+	protected <T> T doFindAndModify(String collectionName, DBObject query, DBObject fields, DBObject sort,
+																	Class<T> entityClass, Update update, FindAndModifyOptions options) {
+		FindAndModifyOptions optionsToUse = options == null ? new FindAndModifyOptions() : options;
+		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityClass);
+		DBObject mappedQuery = mapper.getMappedObject(query, entity);
+		DBObject mappedUpdate = getMappedUpdateObject(update);
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("findAndModify using query: " + mappedQuery + " fields: " + fields + " sort: " + sort + " update: " + mappedUpdate + " for class: " + entityClass + " in collection: " + collectionName);
+		}
+		return execute(new FindAndModifyCallback(mappedQuery, fields, sort, mappedUpdate, optionsToUse),
+				new ReadDbObjectCallback<T>(this.mongoConverter, entityClass),
+				collectionName, "findAndModify");
+	}
+
+	/**
+	 * Returns the update document of the given {@link Update} with its values converted by the configured
+	 * {@link MongoConverter}.
+	 *
+	 * @param update
+	 * @return
+	 */
+	protected DBObject getMappedUpdateObject(Update update) {
+		DBObject updateObj = update.getUpdateObject();
+		for (String key : updateObj.keySet()) {
+			updateObj.put(key, mongoConverter.maybeConvertObject(updateObj.get(key)));
+		}
+		return updateObj;
 	}
 
 	protected Object getIdValue(Object object) {
@@ -1131,6 +1661,113 @@ public class MongoTemplate implements MongoOperations, ApplicationEventPublisher
 		}
 	}
 
+	/**
+	 * Returns the fields specification selecting only the fields backing the properties of the given target type if
+	 * those are a strict subset of the fields of the given entity class, {@literal null} otherwise. Computed
+	 * specifications are cached per pair of entity class and target type.
+	 *
+	 * @param entityClass
+	 * @param targetClass
+	 * @return
+	 */
+	private DBObject getProjection(Class<?> entityClass, Class<?> targetClass) {
+
+		if (entityClass == null || targetClass == null || entityClass.equals(targetClass)) {
+			return null;
+		}
+
+		List<Class<?>> key = Arrays.<Class<?>>asList(entityClass, targetClass);
+		DBObject projection = projections.get(key);
+
+		if (projection == null) {
+			projection = new BasicDBObject();
+			Set<String> entityKeys = getPropertyKeys(getPersistentEntity(entityClass));
+			Set<String> targetKeys = getPropertyKeys(getPersistentEntity(targetClass));
+			if (!targetKeys.isEmpty() && targetKeys.size() < entityKeys.size() && entityKeys.containsAll(targetKeys)) {
+				for (String targetKey : targetKeys) {
+					projection.put(targetKey, 1);
+				}
+			}
+			DBObject existing = projections.putIfAbsent(key, projection);
+			projection = existing == null ? projection : existing;
+		}
+
+		// Hand out copies as the driver keeps a reference to the fields object of a cursor
+		return projection.keySet().isEmpty() ? null : new BasicDBObject(projection.toMap());
+	}
+
+	/**
+	 * Returns the given fields specification or, if none is given and the template is configured to read mapped fields
+	 * only, one selecting the fields mapped by the given target type and all of its mapped subtypes along with the type
+	 * information. Computed specifications are cached per target type until the mapping context learns about new
+	 * entities, as those might be subtypes mapping additional fields.
+	 *
+	 * @param fields
+	 * @param targetClass
+	 * @return
+	 */
+	private DBObject getFieldsToRead(DBObject fields, Class<?> targetClass) {
+
+		if (fields != null || !readMappedFieldsOnly || targetClass == null) {
+			return fields;
+		}
+
+		MappedFields cached = mappedFields.get(targetClass);
+		DBObject projection;
+
+		if (cached != null && cached.entityCount == getEntityCount()) {
+			projection = cached.projection;
+		} else {
+			MongoPersistentEntity<?> targetEntity = getPersistentEntity(targetClass);
+			int entityCount = getEntityCount();
+			Set<String> keys = getPropertyKeys(targetEntity);
+			for (MongoPersistentEntity<?> entity : mappingContext.getPersistentEntities()) {
+				if (targetClass.isAssignableFrom(entity.getType())) {
+					keys.addAll(getPropertyKeys(entity));
+				}
+			}
+			projection = new BasicDBObject();
+			if (!keys.isEmpty()) {
+				keys.add(ID);
+				keys.add(MappingMongoConverter.CUSTOM_TYPE_KEY);
+				for (String key : keys) {
+					projection.put(key, 1);
+				}
+			}
+			mappedFields.put(targetClass, new MappedFields(projection, entityCount));
+		}
+
+		// Hand out copies as the driver keeps a reference to the fields object of a cursor
+		return projection.keySet().isEmpty() ? null : new BasicDBObject(projection.toMap());
+	}
+
+	private int getEntityCount() {
+		return mappingContext.getPersistentEntities().size();
+	}
+
+	private static Set<String> getPropertyKeys(MongoPersistentEntity<?> entity) {
+
+		final Set<String> keys = new HashSet<String>();
+		if (entity == null) {
+			return keys;
+		}
+
+		if (entity.getIdProperty() != null) {
+			keys.add(entity.getIdProperty().getKey());
+		}
+		entity.doWithProperties(new PropertyHandler<MongoPersistentProperty>() {
+			public void doWithPersistentProperty(MongoPersistentProperty property) {
+				keys.add(property.getKey());
+			}
+		});
+		entity.doWithAssociations(new AssociationHandler<MongoPersistentProperty>() {
+			public void doWithAssociation(Association<MongoPersistentProperty> association) {
+				keys.add(association.getInverse().getKey());
+			}
+		});
+		return keys;
+	}
+
 	private MongoPersistentEntity<?> getPersistentEntity(Class<?> type) {
 		return type == null ? null : mappingContext.getPersistentEntity(type);
 	}
@@ -1216,6 +1853,37 @@ public class MongoTemplate implements MongoOperations, ApplicationEventPublisher
 		return resolved == null ? ex : resolved;
 	}
 
+	/**
+	 * Returns a {@link CursorPreparer} applying skip, limit and sort of the given {@link Query} or {@literal null} if
+	 * none of them is set.
+	 *
+	 * @param query
+	 * @return
+	 */
+	private CursorPreparer getCursorPreparer(Query query) {
+		if (query.getSkip() > 0 || query.getLimit() > 0 || query.getSortObject() != null || query.hasCursorOptions()) {
+			return new QueryCursorPreparer(query);
+		}
+		return null;
+	}
+
+	/**
+	 * Closes the given {@link DBCursor} if not {@literal null}, logging instead of propagating any exception so that
+	 * the original failure is not masked.
+	 *
+	 * @param cursor
+	 */
+	private static void closeQuietly(DBCursor cursor) {
+		if (cursor == null) {
+			return;
+		}
+		try {
+			cursor.close();
+		} catch (RuntimeException e) {
+			LOGGER.debug("Could not close cursor", e);
+		}
+	}
+
 	private void initializeMappingMongoConverter(MappingMongoConverter converter) {
 		converter.setMongo(mongo);
 		converter.setDefaultDatabase(databaseName);
@@ -1229,7 +1897,7 @@ public class MongoTemplate implements MongoOperations, ApplicationEventPublisher
 	 * @author Oliver Gierke
 	 * @author Thomas Risberg
 	 */
-	private static class FindOneCallback implements CollectionCallback<DBObject> {
+	private class FindOneCallback implements CollectionCallback<DBObject> {
 
 		private final DBObject query;
 
@@ -1241,17 +1909,23 @@ public class MongoTemplate implements MongoOperations, ApplicationEventPublisher
 		}
 
 		public DBObject doInCollection(DBCollection collection) throws MongoException, DataAccessException {
+			long start = slowOperationLog.isEnabled() ? System.nanoTime() : 0;
+			DBObject result;
 			if (fields == null) {
 				if (LOGGER.isDebugEnabled()) {
 					LOGGER.debug("findOne using query: " + query + " in db.collection: " + collection.getFullName());
 				}
-				return collection.findOne(query);
+				result = collection.findOne(query);
 			} else {
 				if (LOGGER.isDebugEnabled()) {
 					LOGGER.debug("findOne using query: " + query + " fields: " + fields + " in db.collection: " + collection.getFullName());
 				}
-				return collection.findOne(query, fields);
+				result = collection.findOne(query, fields);
 			}
+			if (slowOperationLog.isEnabled()) {
+				slowOperationLog.logIfSlow("findOne", collection, query, fields, null, System.nanoTime() - start, 0);
+			}
+			return result;
 		}
 	}
 
@@ -1292,7 +1966,7 @@ public class MongoTemplate implements MongoOperations, ApplicationEventPublisher
 	 *
 	 * @author Thomas Risberg
 	 */
-	private static class FindAndRemoveCallback implements CollectionCallback<DBObject> {
+	private class FindAndRemoveCallback implements CollectionCallback<DBObject> {
 
 		private final DBObject query;
 
@@ -1307,7 +1981,264 @@ public class MongoTemplate implements MongoOperations, ApplicationEventPublisher
 		}
 
 		public DBObject doInCollection(DBCollection collection) throws MongoException, DataAccessException {
-			return collection.findAndModify(query, fields, sort, true, null, false, false);
+			long start = slowOperationLog.isEnabled() ? System.nanoTime() : 0;
+			DBObject result = collection.findAndModify(query, fields, sort, true, null, false, false);
+			if (slowOperationLog.isEnabled()) {
+				slowOperationLog.logIfSlow("findAndRemove", collection, query, fields, null, System.nanoTime() - start, 0);
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * {@link CollectionCallback} that applies an update document to the first document matching the query and returns
+	 * either the original or the modified document as configured by the given {@link FindAndModifyOptions}.
+	 */
+	private class FindAndModifyCallback implements CollectionCallback<DBObject> {
+
+		private final DBObject query;
+
+		private final DBObject fields;
+
+		private final DBObject sort;
+
+		private final DBObject update;
+
+		private final FindAndModifyOptions options;
+
+		public FindAndModifyCallback(DBObject query, DBObject fields, DBObject sort, DBObject update,
+																 FindAndModifyOptions options) {
+			this.query = query;
+			this.fields = fields;
+			this.sort = sort;
+			this.update = update;
+			this.options = options;
+		}
+
+		public DBObject doInCollection(DBCollection collection) throws MongoException, DataAccessException {
+			long start = slowOperationLog.isEnabled() ? System.nanoTime() : 0;
+			DBObject result = collection.findAndModify(query, fields, sort, false, update, options.isReturnNew(),
+					options.isUpsert());
+			if (slowOperationLog.isEnabled()) {
+				slowOperationLog.logIfSlow("findAndModify", collection, query, fields, null, System.nanoTime() - start, 0);
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * {@link CursorPreparer} that applies skip, limit, sort and the further cursor options of a {@link Query} to the
+	 * {@link DBCursor}.
+	 */
+	private class QueryCursorPreparer implements CursorPreparer {
+
+		private final Query query;
+
+		public QueryCursorPreparer(Query query) {
+			this.query = query;
+		}
+
+		public DBCursor prepare(DBCursor cursor) {
+			DBCursor cursorToUse = cursor;
+			try {
+				if (query.getSkip() > 0) {
+					cursorToUse = cursorToUse.skip(query.getSkip());
+				}
+				if (query.getLimit() > 0) {
+					cursorToUse = cursorToUse.limit(query.getLimit());
+				}
+				if (query.getSortObject() != null) {
+					cursorToUse = cursorToUse.sort(query.getSortObject());
+				}
+				if (query.getBatchSize() > 0) {
+					cursorToUse = cursorToUse.batchSize(query.getBatchSize());
+				}
+				if (query.getHint() instanceof DBObject) {
+					cursorToUse = cursorToUse.hint((DBObject) query.getHint());
+				} else if (query.getHint() != null) {
+					cursorToUse = cursorToUse.hint(query.getHint().toString());
+				}
+				if (query.isSnapshot()) {
+					cursorToUse = cursorToUse.snapshot();
+				}
+				if (query.getMaxScan() > 0) {
+					cursorToUse = cursorToUse.addSpecial("$maxScan", query.getMaxScan());
+				}
+				if (query.isSlaveOk()) {
+					cursorToUse = cursorToUse.addOption(Bytes.QUERYOPTION_SLAVEOK);
+				}
+			} catch (RuntimeException e) {
+				throw potentiallyConvertRuntimeException(e);
+			}
+			return cursorToUse;
+		}
+	}
+
+	/**
+	 * {@link CloseableIterator} that converts the {@link DBObject}s of a {@link DBCursor} using the given
+	 * {@link DbObjectCallback} only as they are pulled. The cursor is closed once it is exhausted, if reading or
+	 * converting a document fails or if {@link #close()} is called explicitly. If {@link CollectionOperationMetrics}
+	 * are given, the time spent opening, reading and converting is recorded as a single find operation once the cursor
+	 * is closed; time the caller spends between pulling documents is not included. The slow operation log only
+	 * considers the time spent on the cursor and reports the time spent converting separately. If a prefetch size is
+	 * given, the documents are read in pages of that size, each of which is handed to
+	 * {@link DbObjectCallback#prepare(List)} before its documents are converted.
+	 */
+	private class DbCursorIterator<T> implements CloseableIterator<T> {
+
+		private final DBCursor cursor;
+		private final DbObjectCallback<T> objectCallback;
+		private final String collectionName;
+		private final CollectionOperationMetrics metrics;
+		private final boolean timed;
+		private final int prefetchSize;
+		private LinkedList<DBObject> buffer;
+		private boolean prepared = false;
+		private boolean closed = false;
+		private long nanos;
+		private long conversionNanos;
+		private long documents;
+		private DBCollection collection;
+		private CollectionCallback<DBCursor> collectionCallback;
+		private CursorPreparer preparer;
+
+		public DbCursorIterator(DBCursor cursor, DbObjectCallback<T> objectCallback, String collectionName,
+														CollectionOperationMetrics metrics, long start, int prefetchSize) {
+			this.cursor = cursor;
+			this.prefetchSize = prefetchSize;
+			this.objectCallback = objectCallback;
+			this.collectionName = collectionName;
+			this.metrics = metrics;
+			this.timed = metrics != null || slowOperationLog.isEnabled();
+			this.nanos = timed ? System.nanoTime() - start : 0;
+		}
+
+		/**
+		 * Provides the details to log if reading the cursor turns out to be slow.
+		 */
+		void setSlowOperationDetails(DBCollection collection, CollectionCallback<DBCursor> collectionCallback,
+																 CursorPreparer preparer) {
+			this.collection = collection;
+			this.collectionCallback = collectionCallback;
+			this.preparer = preparer;
+		}
+
+		public boolean hasNext() {
+			if (closed) {
+				return false;
+			}
+			try {
+				if (prefetchSize > 0 && (buffer == null || buffer.isEmpty())) {
+					readPage();
+				}
+				long start = timed ? System.nanoTime() : 0;
+				boolean hasNext = buffer == null ? cursor.hasNext() : !buffer.isEmpty();
+				if (timed) {
+					nanos += System.nanoTime() - start;
+				}
+				if (!hasNext) {
+					close();
+				}
+				return hasNext;
+			} catch (RuntimeException e) {
+				fail();
+				throw potentiallyConvertRuntimeException(e);
+			}
+		}
+
+		public T next() {
+			if (closed) {
+				throw new NoSuchElementException("Cursor already closed");
+			}
+			try {
+				if (prefetchSize > 0 && (buffer == null || buffer.isEmpty())) {
+					readPage();
+				}
+				if (buffer != null && buffer.isEmpty()) {
+					throw new NoSuchElementException("No more documents available");
+				}
+				long start = timed ? System.nanoTime() : 0;
+				DBObject dbObject = buffer == null ? cursor.next() : buffer.removeFirst();
+				long read = timed ? System.nanoTime() : 0;
+				T result = objectCallback.doWith(dbObject);
+				if (timed) {
+					nanos += read - start;
+					conversionNanos += System.nanoTime() - read;
+					documents++;
+				}
+				return result;
+			} catch (RuntimeException e) {
+				fail();
+				throw potentiallyConvertRuntimeException(e);
+			}
+		}
+
+		public void remove() {
+			throw new UnsupportedOperationException("Removing documents through a cursor is not supported");
+		}
+
+		/**
+		 * Reads the next page of documents and prepares converting them, releasing what was prepared for the previous
+		 * page.
+		 */
+		private void readPage() {
+			release();
+			long start = timed ? System.nanoTime() : 0;
+			buffer = new LinkedList<DBObject>();
+			while (buffer.size() < prefetchSize && cursor.hasNext()) {
+				buffer.add(cursor.next());
+			}
+			long read = timed ? System.nanoTime() : 0;
+			prepared = !buffer.isEmpty() && objectCallback.prepare(buffer);
+			if (timed) {
+				nanos += read - start;
+				conversionNanos += System.nanoTime() - read;
+			}
+		}
+
+		public void close() {
+			if (closed) {
+				return;
+			}
+			closed = true;
+			release();
+			record(false);
+			try {
+				cursor.close();
+			} catch (RuntimeException e) {
+				throw potentiallyConvertRuntimeException(e);
+			}
+		}
+
+		private void fail() {
+			closed = true;
+			release();
+			closeQuietly(cursor);
+			record(true);
+		}
+
+		private void release() {
+			buffer = null;
+			if (prepared) {
+				prepared = false;
+				objectCallback.release();
+			}
+		}
+
+		private void record(boolean failed) {
+			if (metrics != null) {
+				metrics.record(collectionName, "find", nanos + conversionNanos, documents, failed);
+			}
+			if (collection != null) {
+				DBObject query = null;
+				DBObject fields = null;
+				if (collectionCallback instanceof FindCallback) {
+					query = ((FindCallback) collectionCallback).query;
+					fields = ((FindCallback) collectionCallback).fields;
+				}
+				Query source = preparer instanceof QueryCursorPreparer ? ((QueryCursorPreparer) preparer).query : null;
+				slowOperationLog.logIfSlow("find", collection, query, fields, source, nanos, conversionNanos);
+			}
 		}
 	}
 
@@ -1320,6 +2251,24 @@ public class MongoTemplate implements MongoOperations, ApplicationEventPublisher
 	private interface DbObjectCallback<T> {
 
 		T doWith(DBObject object);
+
+		/**
+		 * Prepares converting the given {@link DBObject}s before {@link #doWith(DBObject)} is called for each of them.
+		 *
+		 * @param objects
+		 * @return whether {@link #release()} has to be called once all of them are converted
+		 */
+		boolean prepare(List<DBObject> objects);
+
+		/**
+		 * Returns whether {@link #prepare(List)} may do anything at all. If not, documents are converted straight from
+		 * the cursor instead of being read ahead.
+		 *
+		 * @return
+		 */
+		boolean requiresPreparation();
+
+		void release();
 	}
 
 	/**
@@ -1328,6 +2277,21 @@ public class MongoTemplate implements MongoOperations, ApplicationEventPublisher
 	 *
 	 * @author Oliver Gierke
 	 */
+	/**
+	 * A fields specification computed for a target type along with the number of entities the mapping context knew
+	 * about at that time.
+	 */
+	private static class MappedFields {
+
+		private final DBObject projection;
+		private final int entityCount;
+
+		public MappedFields(DBObject projection, int entityCount) {
+			this.projection = projection;
+			this.entityCount = entityCount;
+		}
+	}
+
 	private class ReadDbObjectCallback<T> implements DbObjectCallback<T> {
 
 		private final MongoReader<? super T> reader;
@@ -1348,6 +2312,22 @@ public class MongoTemplate implements MongoOperations, ApplicationEventPublisher
 			}
 			return source;
 		}
+
+		/**
+		 * Resolves the references of all given {@link DBObject}s in bulk if a {@link MappingMongoConverter} is used.
+		 */
+		public boolean prepare(List<DBObject> objects) {
+			return reader instanceof MappingMongoConverter
+					&& ((MappingMongoConverter) reader).prefetchDBRefs(type, objects);
+		}
+
+		public boolean requiresPreparation() {
+			return reader instanceof MappingMongoConverter && ((MappingMongoConverter) reader).hasEagerDBRefs(type);
+		}
+
+		public void release() {
+			((MappingMongoConverter) reader).clearPrefetchedDBRefs();
+		}
 	}
 
 	public void setWriteResultChecking(WriteResultChecking resultChecking) {
@@ -1358,4 +2338,59 @@ public class MongoTemplate implements MongoOperations, ApplicationEventPublisher
 		this.writeConcern = writeConcern;
 	}
 
+	/**
+	 * Configures the {@link Executor} the partitions of parallel scans are read with. The calling thread waits until all
+	 * partitions have been read. Defaults to a pool of daemon threads sized to the number of available processors, shared
+	 * by all scans of this template.
+	 *
+	 * @param parallelScanExecutor
+	 */
+	public void setParallelScanExecutor(Executor parallelScanExecutor) {
+		Assert.notNull(parallelScanExecutor);
+		this.parallelScanExecutor = parallelScanExecutor;
+	}
+
+	/**
+	 * Configures whether queries that do not specify the fields to return only read the fields mapped by the requested
+	 * type and its subtypes known to the mapping context. Documents carrying many fields that are not mapped are then
+	 * neither transferred nor decoded. Defaults to {@literal false}, which reads whole documents.
+	 *
+	 * @param readMappedFieldsOnly
+	 */
+	public void setReadMappedFieldsOnly(boolean readMappedFieldsOnly) {
+		this.readMappedFieldsOnly = readMappedFieldsOnly;
+	}
+
+	/**
+	 * Configures the {@link CollectionOperationMetrics} to record the latency, errors and documents returned of the
+	 * operations executed by this template per collection. Nothing is recorded by default.
+	 *
+	 * @param operationMetrics the metrics to record to, {@literal null} to disable recording
+	 */
+	public void setOperationMetrics(CollectionOperationMetrics operationMetrics) {
+		this.operationMetrics = operationMetrics;
+	}
+
+	/**
+	 * Configures the time in milliseconds after which find, update and remove operations are logged as slow including
+	 * their collection, mapped query, fields, sort, skip, limit and elapsed time. Negative values (the default) disable
+	 * the slow operation log.
+	 *
+	 * @param thresholdMillis
+	 */
+	public void setSlowOperationThreshold(long thresholdMillis) {
+		this.slowOperationLog.setThreshold(thresholdMillis);
+	}
+
+	/**
+	 * Configures the fraction (between 0 and 1) of slow operations whose query plan is looked up using an explain and
+	 * logged along with them. Operations scanning the whole collection are flagged. The explain is executed right after
+	 * the slow operation on the same thread and thus adds another round trip to it. Defaults to 0.
+	 *
+	 * @param explainRatio
+	 */
+	public void setSlowOperationExplainRatio(double explainRatio) {
+		this.slowOperationLog.setExplainRatio(explainRatio);
+	}
+
 }
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.document.mongodb;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBCollection;
+import com.mongodb.DBCursor;
+import com.mongodb.DBObject;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.data.document.mongodb.query.Query;
+
+/**
+ * Logs find, update and remove operations of a {@link MongoTemplate} that take longer than a configurable threshold.
+ * For a sampled fraction of them the query plan is looked up using {@link DBCursor#explain()} and operations that had
+ * to scan the whole collection are flagged, so missing indexes can be found without enabling the server's profiler.
+ * The explain is issued on the thread that executed the operation once it completed, so sampled operations take an
+ * additional round trip to the server. Keep the explain ratio low for operations on busy collections.
+ */
+class SlowOperationLog {
+
+	private static final Log LOGGER = LogFactory.getLog(SlowOperationLog.class);
+
+	private static final String FULL_SCAN_CURSOR = "BasicCursor";
+
+	private final Random random = new Random();
+
+	private volatile long thresholdNanos = -1;
+	private volatile double explainRatio = 0;
+
+	/**
+	 * Sets the time in milliseconds after which an operation is considered slow. Negative values disable logging.
+	 *
+	 * @param thresholdMillis
+	 */
+	public void setThreshold(long thresholdMillis) {
+		this.thresholdNanos = thresholdMillis < 0 ? -1 : TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+	}
+
+	/**
+	 * Sets the fraction (between 0 and 1) of the slow operations whose query plan shall be looked up.
+	 *
+	 * @param explainRatio
+	 */
+	public void setExplainRatio(double explainRatio) {
+		this.explainRatio = Math.min(Math.max(explainRatio, 0), 1);
+	}
+
+	public boolean isEnabled() {
+		return thresholdNanos >= 0;
+	}
+
+	/**
+	 * Logs the given operation if it took longer than the configured threshold.
+	 *
+	 * @param operation	 the name of the operation, e.g. update or remove
+	 * @param collection the collection the operation was executed on
+	 * @param query			the mapped query document, may be {@literal null}
+	 * @param nanos			the time the operation took in nanoseconds
+	 */
+	public void logIfSlow(String operation, DBCollection collection, DBObject query, long nanos) {
+		logIfSlow(operation, collection, query, null, null, nanos, 0);
+	}
+
+	/**
+	 * Logs the given operation if the time spent waiting for the server took longer than the configured threshold. The
+	 * time spent converting the results on the client is logged along with it but does not count towards the
+	 * threshold, so expensive mapping does not make a query that was fast on the server look slow. Sort, skip, limit,
+	 * hint, snapshot and maxScan of the given {@link Query} are logged and applied to the explain as well, so that the
+	 * plan reported is the one the operation used.
+	 *
+	 * @param operation			 the name of the operation, e.g. find
+	 * @param collection			the collection the operation was executed on
+	 * @param query						the mapped query document, may be {@literal null}
+	 * @param fields					 the fields specification, may be {@literal null}
+	 * @param options					the {@link Query} providing the cursor options, may be {@literal null}
+	 * @param nanos						the time spent executing the operation and reading its results in nanoseconds
+	 * @param conversionNanos the time spent converting the results in nanoseconds
+	 */
+	public void logIfSlow(String operation, DBCollection collection, DBObject query, DBObject fields, Query options,
+												long nanos, long conversionNanos) {
+
+		long threshold = thresholdNanos;
+		if (threshold < 0 || nanos < threshold || !LOGGER.isWarnEnabled()) {
+			return;
+		}
+
+		StringBuilder message = new StringBuilder("Slow ").append(operation).append(" on collection ")
+				.append(collection.getName()).append(" took ").append(TimeUnit.NANOSECONDS.toMillis(nanos)).append("ms");
+		if (conversionNanos > 0) {
+			message.append(" (plus ").append(TimeUnit.NANOSECONDS.toMillis(conversionNanos)).append("ms converting)");
+		}
+		message.append(" using query: ").append(query).append(" fields: ").append(fields);
+		if (options != null) {
+			message.append(" sort: ").append(options.getSortObject()).append(" skip: ").append(options.getSkip())
+					.append(" limit: ").append(options.getLimit());
+			if (options.getHint() != null) {
+				message.append(" hint: ").append(options.getHint());
+			}
+		}
+
+		if (shouldExplain()) {
+			appendPlan(message, collection, query, fields, options);
+		}
+
+		LOGGER.warn(message.toString());
+	}
+
+	private boolean shouldExplain() {
+		double ratio = explainRatio;
+		return ratio >= 1 || (ratio > 0 && random.nextDouble() < ratio);
+	}
+
+	private void appendPlan(StringBuilder message, DBCollection collection, DBObject query, DBObject fields,
+													Query options) {
+		try {
+			DBCursor cursor = collection.find(query == null ? new BasicDBObject() : query, fields);
+			if (options != null) {
+				cursor = applyOptions(cursor, options);
+			}
+
+			DBObject plan = cursor.explain();
+			Object cursorType = plan.get("cursor");
+
+			message.append(" plan: [cursor: ").append(cursorType).append(" nscanned: ").append(plan.get("nscanned"))
+					.append(" n: ").append(plan.get("n")).append("]");
+
+			if (cursorType != null && cursorType.toString().startsWith(FULL_SCAN_CURSOR)) {
+				message.append(" FULL COLLECTION SCAN");
+			}
+		} catch (RuntimeException e) {
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Could not explain slow operation on collection " + collection.getName(), e);
+			}
+			message.append(" plan: [unavailable]");
+		}
+	}
+
+	/**
+	 * Applies the options of the given {@link Query} that influence the plan chosen by the server to the given cursor.
+	 */
+	private static DBCursor applyOptions(DBCursor cursor, Query options) {
+
+		DBCursor cursorToUse = cursor;
+		if (options.getSortObject() != null) {
+			cursorToUse = cursorToUse.sort(options.getSortObject());
+		}
+		if (options.getSkip() > 0) {
+			cursorToUse = cursorToUse.skip(options.getSkip());
+		}
+		if (options.getLimit() > 0) {
+			cursorToUse = cursorToUse.limit(options.getLimit());
+		}
+		if (options.getHint() instanceof DBObject) {
+			cursorToUse = cursorToUse.hint((DBObject) options.getHint());
+		} else if (options.getHint() != null) {
+			cursorToUse = cursorToUse.hint(options.getHint().toString());
+		}
+		if (options.isSnapshot()) {
+			cursorToUse = cursorToUse.snapshot();
+		}
+		if (options.getMaxScan() > 0) {
+			cursorToUse = cursorToUse.addSpecial("$maxScan", options.getMaxScan());
+		}
+		return cursorToUse;
+	}
+}
@@ -16,6 +16,7 @@
 package org.springframework.data.document.mongodb.config;
 
 import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.MethodInvokingFactoryBean;
 import org.springframework.beans.factory.parsing.BeanComponentDefinition;
 import org.springframework.beans.factory.parsing.CompositeComponentDefinition;
 import org.springframework.beans.factory.support.BeanDefinitionBuilder;
@@ -52,11 +53,39 @@ public class MongoJmxParser implements BeanDefinitionParser {
     createBeanDefEntry(ServerInfo.class, compositeDef, mongoRefName, eleSource, parserContext);
     createBeanDefEntry(MongoAdmin.class, compositeDef, mongoRefName, eleSource, parserContext);
 
+    String templateRefName = element.getAttribute("mongo-template-ref");
+    if (StringUtils.hasText(templateRefName)) {
+      registerOperationMetrics(mongoRefName, templateRefName, compositeDef, eleSource, parserContext);
+    }
 
     parserContext.registerComponent(compositeDef);
 
   }
 
+  /**
+   * Registers a {@link CollectionOperationMetrics} bean named after the given Mongo reference suffixed with
+   * "OperationMetrics" and configures the referenced template to record its operations with it.
+   */
+  protected void registerOperationMetrics(String mongoRefName, String templateRefName,
+      CompositeComponentDefinition compositeDef, Object eleSource, ParserContext parserContext) {
+
+    BeanDefinitionBuilder builder = BeanDefinitionBuilder.genericBeanDefinition(CollectionOperationMetrics.class);
+    builder.getRawBeanDefinition().setSource(eleSource);
+    BeanDefinition metricsDef = builder.getBeanDefinition();
+    String metricsName = mongoRefName + "OperationMetrics";
+    parserContext.getRegistry().registerBeanDefinition(metricsName, metricsDef);
+    compositeDef.addNestedComponent(new BeanComponentDefinition(metricsDef, metricsName));
+
+    BeanDefinitionBuilder wiring = BeanDefinitionBuilder.genericBeanDefinition(MethodInvokingFactoryBean.class);
+    wiring.getRawBeanDefinition().setSource(eleSource);
+    wiring.addPropertyReference("targetObject", templateRefName);
+    wiring.addPropertyValue("targetMethod", "setOperationMetrics");
+    wiring.addPropertyReference("arguments", metricsName);
+    BeanDefinition wiringDef = wiring.getBeanDefinition();
+    String wiringName = parserContext.getReaderContext().registerWithGeneratedName(wiringDef);
+    compositeDef.addNestedComponent(new BeanComponentDefinition(wiringDef, wiringName));
+  }
+
   protected void createBeanDefEntry(Class<?> clazz, CompositeComponentDefinition compositeDef, String mongoRefName, Object eleSource, ParserContext parserContext) {
     BeanDefinitionBuilder builder = BeanDefinitionBuilder.genericBeanDefinition(clazz);
     builder.getRawBeanDefinition().setSource(eleSource);
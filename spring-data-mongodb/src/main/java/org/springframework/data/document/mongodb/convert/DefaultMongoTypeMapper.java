@@ -0,0 +1,160 @@
+/*
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.document.mongodb.convert;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.data.document.mongodb.mapping.Document;
+import org.springframework.data.document.mongodb.mapping.MongoPersistentEntity;
+import org.springframework.data.document.mongodb.mapping.MongoPersistentProperty;
+import org.springframework.data.mapping.model.MappingContext;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+import com.mongodb.DBObject;
+
+/**
+ * Default {@link MongoTypeMapper} storing the alias configured through {@link Document#alias()} or the fully qualified
+ * class name under {@value MappingMongoConverter#CUSTOM_TYPE_KEY}. Aliases are resolved against the entities of the
+ * given {@link MappingContext}, everything else is loaded as class. Resolved types are cached. Values that could not be
+ * resolved are cached only until the {@link MappingContext} learns about further entities, as the entity declaring an
+ * alias might simply not have been added to it yet.
+ */
+public class DefaultMongoTypeMapper implements MongoTypeMapper {
+
+  private static final Log LOGGER = LogFactory.getLog(DefaultMongoTypeMapper.class);
+
+  private final MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext;
+  private final ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
+  private final ConcurrentMap<String, Object> types = new ConcurrentHashMap<String, Object>();
+  private final ConcurrentMap<Class<?>, String> aliases = new ConcurrentHashMap<Class<?>, String>();
+
+  private boolean writeDeclaredTypes = false;
+
+  /**
+   * Creates a new {@link DefaultMongoTypeMapper} resolving aliases against the given {@link MappingContext}.
+   *
+   * @param mappingContext can be {@literal null}
+   */
+  public DefaultMongoTypeMapper(MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext) {
+    this.mappingContext = mappingContext;
+  }
+
+  /**
+   * Configures whether to store type information for nested objects whose type equals the type declared by the
+   * property holding them. Defaults to {@literal false}, which keeps documents small as the declared type is used on
+   * reading anyway.
+   *
+   * @param writeDeclaredTypes
+   */
+  public void setWriteDeclaredTypes(boolean writeDeclaredTypes) {
+    this.writeDeclaredTypes = writeDeclaredTypes;
+  }
+
+  /* (non-Javadoc)
+   * @see org.springframework.data.document.mongodb.convert.MongoTypeMapper#readType(com.mongodb.DBObject)
+   */
+  public Class<?> readType(DBObject dbObject) {
+
+    Object value = dbObject.get(MappingMongoConverter.CUSTOM_TYPE_KEY);
+    if (value == null) {
+      return null;
+    }
+
+    String alias = value.toString();
+    Object type = types.get(alias);
+    if (type == null || (type instanceof Unresolvable && ((Unresolvable) type).isStale())) {
+      type = resolve(alias);
+      types.put(alias, type);
+    }
+
+    return type instanceof Class ? (Class<?>) type : null;
+  }
+
+  /* (non-Javadoc)
+   * @see org.springframework.data.document.mongodb.convert.MongoTypeMapper#writeType(java.lang.Class, java.lang.Class, com.mongodb.DBObject)
+   */
+  public void writeType(Class<?> type, Class<?> declaredType, DBObject dbObject) {
+
+    if (!writeDeclaredTypes && type.equals(declaredType)) {
+      return;
+    }
+
+    String alias = aliases.get(type);
+    if (alias == null) {
+      Document document = type.getAnnotation(Document.class);
+      alias = document != null && StringUtils.hasText(document.alias()) ? document.alias() : type.getName();
+      aliases.put(type, alias);
+      // make sure the alias resolves even if the type is not known to the mapping context
+      types.put(alias, type);
+    }
+
+    dbObject.put(MappingMongoConverter.CUSTOM_TYPE_KEY, alias);
+  }
+
+  /* (non-Javadoc)
+   * @see org.springframework.data.document.mongodb.convert.MongoTypeMapper#isTypeKey(java.lang.String)
+   */
+  public boolean isTypeKey(String key) {
+    return MappingMongoConverter.CUSTOM_TYPE_KEY.equals(key);
+  }
+
+  private Object resolve(String alias) {
+
+    int entityCount = getEntityCount();
+
+    if (mappingContext != null) {
+      for (MongoPersistentEntity<?> entity : mappingContext.getPersistentEntities()) {
+        Document document = entity.getType().getAnnotation(Document.class);
+        if (document != null && alias.equals(document.alias())) {
+          return entity.getType();
+        }
+      }
+    }
+
+    try {
+      return ClassUtils.forName(alias, classLoader);
+    } catch (ClassNotFoundException e) {
+      LOGGER.warn("Could not resolve type " + alias + ", using the declared type instead");
+    } catch (LinkageError e) {
+      LOGGER.warn("Could not load type " + alias + ", using the declared type instead", e);
+    }
+    return new Unresolvable(entityCount);
+  }
+
+  private int getEntityCount() {
+    return mappingContext == null ? 0 : mappingContext.getPersistentEntities().size();
+  }
+
+  /**
+   * Marks a value that could not be resolved with the entities known to the {@link MappingContext} at that time.
+   */
+  private class Unresolvable {
+
+    private final int entityCount;
+
+    public Unresolvable(int entityCount) {
+      this.entityCount = entityCount;
+    }
+
+    public boolean isStale() {
+      return getEntityCount() != entityCount;
+    }
+  }
+}
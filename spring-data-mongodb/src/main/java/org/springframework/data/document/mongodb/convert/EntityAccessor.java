@@ -0,0 +1,355 @@
+/*
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.document.mongodb.convert;
+
+import java.beans.PropertyDescriptor;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+
+import net.sf.cglib.reflect.FastClass;
+import net.sf.cglib.reflect.FastConstructor;
+import net.sf.cglib.reflect.FastMethod;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.document.mongodb.mapping.MongoPersistentEntity;
+import org.springframework.data.document.mongodb.mapping.MongoPersistentProperty;
+import org.springframework.data.mapping.AssociationHandler;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mapping.model.Association;
+import org.springframework.data.mapping.model.PreferredConstructor;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Instantiates a mapped type and reads and writes its properties without looking up members reflectively on each
+ * invocation. Public constructors and accessor methods are invoked through classes generated by CGLIB if it is present,
+ * everything else through {@link Constructor}s and {@link Field}s that are looked up and made accessible once.
+ * Constructors with {@link Value} annotated parameters are not supported, {@link #canInstantiate()} returns
+ * {@literal false} for them.
+ */
+class EntityAccessor<T> {
+
+  private static final boolean CGLIB_PRESENT = ClassUtils.isPresent("net.sf.cglib.reflect.FastClass",
+      EntityAccessor.class.getClassLoader());
+
+  private final PreferredConstructor<T> preferredConstructor;
+  private final Instantiator instantiator;
+  private final Map<String, PropertyAccessor> accessors = new HashMap<String, PropertyAccessor>();
+
+  /**
+   * Creates a new {@link EntityAccessor} for the given {@link MongoPersistentEntity}.
+   *
+   * @param entity
+   * @param fieldAccessOnly whether to access properties through their fields even if accessor methods exist
+   */
+  public EntityAccessor(MongoPersistentEntity<T> entity, final boolean fieldAccessOnly) {
+
+    final Class<T> type = entity.getType();
+    final Generator generator = CGLIB_PRESENT && Modifier.isPublic(type.getModifiers()) ? new Generator(type) : null;
+
+    this.preferredConstructor = entity.getPreferredConstructor();
+    this.instantiator = createInstantiator(type, preferredConstructor, generator);
+
+    entity.doWithProperties(new PropertyHandler<MongoPersistentProperty>() {
+      public void doWithPersistentProperty(MongoPersistentProperty property) {
+        accessors.put(property.getName(), createAccessor(type, property, fieldAccessOnly, generator));
+      }
+    });
+
+    entity.doWithAssociations(new AssociationHandler<MongoPersistentProperty>() {
+      public void doWithAssociation(Association<MongoPersistentProperty> association) {
+        MongoPersistentProperty property = association.getInverse();
+        accessors.put(property.getName(), createAccessor(type, property, fieldAccessOnly, generator));
+      }
+    });
+  }
+
+  /**
+   * Returns whether {@link #newInstance(PreferredConstructor.ParameterValueProvider)} can be used to create instances.
+   *
+   * @return
+   */
+  public boolean canInstantiate() {
+    return instantiator != null;
+  }
+
+  /**
+   * Creates a new instance using the preferred constructor and the given provider for its arguments.
+   *
+   * @param provider
+   * @return
+   */
+  @SuppressWarnings("unchecked")
+  public T newInstance(PreferredConstructor.ParameterValueProvider provider) throws InvocationTargetException,
+      InstantiationException, IllegalAccessException {
+
+    int parameterCount = preferredConstructor == null ? 0
+        : preferredConstructor.getConstructor().getParameterTypes().length;
+    if (parameterCount == 0) {
+      return (T) instantiator.newInstance(new Object[0]);
+    }
+
+    Object[] args = new Object[parameterCount];
+    int i = 0;
+    for (PreferredConstructor.Parameter<?> parameter : preferredConstructor.getParameters()) {
+      args[i++] = provider.getParameterValue(parameter);
+    }
+    return (T) instantiator.newInstance(args);
+  }
+
+  /**
+   * Returns the value of the given property of the given target.
+   *
+   * @param target
+   * @param property
+   * @return
+   */
+  public Object getProperty(Object target, MongoPersistentProperty property) throws InvocationTargetException,
+      IllegalAccessException {
+    return accessors.get(property.getName()).get(target);
+  }
+
+  /**
+   * Sets the given property of the given target to the given value if it can be assigned without conversion.
+   *
+   * @param target
+   * @param property
+   * @param value
+   * @return whether the value was set
+   */
+  public boolean setProperty(Object target, MongoPersistentProperty property, Object value)
+      throws InvocationTargetException, IllegalAccessException {
+
+    Class<?> type = ClassUtils.resolvePrimitiveIfNecessary(property.getType());
+    if (value == null ? property.getType().isPrimitive() : !type.isInstance(value)) {
+      return false;
+    }
+
+    accessors.get(property.getName()).set(target, value);
+    return true;
+  }
+
+  private static Instantiator createInstantiator(Class<?> type, PreferredConstructor<?> preferredConstructor,
+                                                 Generator generator) {
+
+    if (Modifier.isAbstract(type.getModifiers())) {
+      return null;
+    }
+
+    Constructor<?> constructor;
+    if (preferredConstructor == null) {
+      constructor = ClassUtils.getConstructorIfAvailable(type);
+      if (constructor == null) {
+        return null;
+      }
+    } else {
+      constructor = preferredConstructor.getConstructor();
+    }
+
+    for (Annotation[] annotations : constructor.getParameterAnnotations()) {
+      for (Annotation annotation : annotations) {
+        if (annotation instanceof Value) {
+          return null;
+        }
+      }
+    }
+
+    if (generator != null && Modifier.isPublic(constructor.getModifiers())) {
+      return generator.getInstantiator(constructor);
+    }
+
+    ReflectionUtils.makeAccessible(constructor);
+    return new ReflectiveInstantiator(constructor);
+  }
+
+  private static PropertyAccessor createAccessor(Class<?> type, MongoPersistentProperty property,
+                                                 boolean fieldAccessOnly, Generator generator) {
+
+    PropertyDescriptor descriptor = fieldAccessOnly ? null : BeanUtils.getPropertyDescriptor(type, property.getName());
+    Method getter = descriptor == null ? null : descriptor.getReadMethod();
+    Method setter = descriptor == null ? null : descriptor.getWriteMethod();
+
+    Field field = property.getField();
+    ReflectionUtils.makeAccessible(field);
+
+    PropertyAccessor fieldAccessor = new FieldAccessor(field);
+    if (getter == null && setter == null) {
+      return fieldAccessor;
+    }
+
+    return new MethodAccessor(getMethodInvoker(getter, generator), getMethodInvoker(setter, generator), fieldAccessor);
+  }
+
+  private static MethodInvoker getMethodInvoker(Method method, Generator generator) {
+
+    if (method == null) {
+      return null;
+    }
+
+    if (generator != null && Modifier.isPublic(method.getModifiers())
+        && Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+      return generator.getMethodInvoker(method);
+    }
+
+    ReflectionUtils.makeAccessible(method);
+    return new ReflectiveMethodInvoker(method);
+  }
+
+  private interface Instantiator {
+
+    Object newInstance(Object[] args) throws InvocationTargetException, InstantiationException,
+        IllegalAccessException;
+  }
+
+  private interface MethodInvoker {
+
+    Object invoke(Object target, Object[] args) throws InvocationTargetException, IllegalAccessException;
+  }
+
+  private interface PropertyAccessor {
+
+    Object get(Object target) throws InvocationTargetException, IllegalAccessException;
+
+    void set(Object target, Object value) throws InvocationTargetException, IllegalAccessException;
+  }
+
+  /**
+   * Generates a class invoking the public constructors and methods of a type directly. Keeps all references to CGLIB
+   * in separate classes so that they are only loaded if CGLIB is present.
+   */
+  private static class Generator {
+
+    private final FastClass fastClass;
+
+    public Generator(Class<?> type) {
+      this.fastClass = FastClass.create(type.getClassLoader(), type);
+    }
+
+    public Instantiator getInstantiator(Constructor<?> constructor) {
+      return new GeneratedInstantiator(fastClass.getConstructor(constructor));
+    }
+
+    public MethodInvoker getMethodInvoker(Method method) {
+      return new GeneratedMethodInvoker(fastClass.getMethod(method));
+    }
+  }
+
+  private static class GeneratedInstantiator implements Instantiator {
+
+    private final FastConstructor constructor;
+
+    public GeneratedInstantiator(FastConstructor constructor) {
+      this.constructor = constructor;
+    }
+
+    public Object newInstance(Object[] args) throws InvocationTargetException {
+      return constructor.newInstance(args);
+    }
+  }
+
+  private static class ReflectiveInstantiator implements Instantiator {
+
+    private final Constructor<?> constructor;
+
+    public ReflectiveInstantiator(Constructor<?> constructor) {
+      this.constructor = constructor;
+    }
+
+    public Object newInstance(Object[] args) throws InvocationTargetException, InstantiationException,
+        IllegalAccessException {
+      return constructor.newInstance(args);
+    }
+  }
+
+  private static class GeneratedMethodInvoker implements MethodInvoker {
+
+    private final FastMethod method;
+
+    public GeneratedMethodInvoker(FastMethod method) {
+      this.method = method;
+    }
+
+    public Object invoke(Object target, Object[] args) throws InvocationTargetException {
+      return method.invoke(target, args);
+    }
+  }
+
+  private static class ReflectiveMethodInvoker implements MethodInvoker {
+
+    private final Method method;
+
+    public ReflectiveMethodInvoker(Method method) {
+      this.method = method;
+    }
+
+    public Object invoke(Object target, Object[] args) throws InvocationTargetException, IllegalAccessException {
+      return method.invoke(target, args);
+    }
+  }
+
+  private static class FieldAccessor implements PropertyAccessor {
+
+    private final Field field;
+
+    public FieldAccessor(Field field) {
+      this.field = field;
+    }
+
+    public Object get(Object target) throws IllegalAccessException {
+      return field.get(target);
+    }
+
+    public void set(Object target, Object value) throws IllegalAccessException {
+      field.set(target, value);
+    }
+  }
+
+  /**
+   * Uses accessor methods where available and falls back to the field otherwise.
+   */
+  private static class MethodAccessor implements PropertyAccessor {
+
+    private static final Object[] NO_ARGS = new Object[0];
+
+    private final MethodInvoker getter;
+    private final MethodInvoker setter;
+    private final PropertyAccessor fallback;
+
+    public MethodAccessor(MethodInvoker getter, MethodInvoker setter, PropertyAccessor fallback) {
+      this.getter = getter;
+      this.setter = setter;
+      this.fallback = fallback;
+    }
+
+    public Object get(Object target) throws InvocationTargetException, IllegalAccessException {
+      return getter == null ? fallback.get(target) : getter.invoke(target, NO_ARGS);
+    }
+
+    public void set(Object target, Object value) throws InvocationTargetException, IllegalAccessException {
+      if (setter == null) {
+        fallback.set(target, value);
+      } else {
+        setter.invoke(target, new Object[] { value });
+      }
+    }
+  }
+}
@@ -19,30 +19,41 @@ package org.springframework.data.document.mongodb.convert;
 import static org.springframework.data.document.mongodb.convert.ObjectIdConverters.*;
 import static org.springframework.data.mapping.MappingBeanHelper.*;
 
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Array;
+import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import com.mongodb.BasicDBList;
 import com.mongodb.BasicDBObject;
 import com.mongodb.DB;
+import com.mongodb.DBCursor;
 import com.mongodb.DBObject;
 import com.mongodb.DBRef;
 import com.mongodb.Mongo;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.bson.types.ObjectId;
+import org.springframework.aop.TargetSource;
+import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
@@ -68,6 +79,8 @@ import org.springframework.data.util.TypeInformation;
 import org.springframework.expression.Expression;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
 
 /**
  * {@link MongoConverter} that uses a {@link MappingContext} to do sophisticated mapping of domain objects to
@@ -81,6 +94,8 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 	public static final String CUSTOM_TYPE_KEY = "_class";
 	@SuppressWarnings({"unchecked"})
 	private static final List<Class<?>> MONGO_TYPES = Arrays.asList(Number.class, Date.class, String.class, DBObject.class);
+	private static final Class<?> NO_CUSTOM_TARGET = Void.class;
+	private static final Class<?> ANY_TARGET = Void.TYPE;
 	private static final List<Class<?>> VALID_ID_TYPES = Arrays.asList(new Class<?>[]{ObjectId.class, String.class, BigInteger.class, byte[].class});
 	protected static final Log log = LogFactory.getLog(MappingMongoConverter.class);
 
@@ -90,9 +105,19 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 	protected SpelExpressionParser spelExpressionParser = new SpelExpressionParser();
 	protected ApplicationContext applicationContext;
 	protected boolean useFieldAccessOnly = true;
+	protected boolean useGeneratedAccessors = false;
+	protected MongoTypeMapper typeMapper;
 	protected Mongo mongo;
 	protected String defaultDatabase;
 
+	private final ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, Class<?>>> customTargets = new ConcurrentHashMap<Class<?>, ConcurrentMap<Class<?>, Class<?>>>();
+	private final ConcurrentMap<String, Expression> expressions = new ConcurrentHashMap<String, Expression>();
+	private final ConcurrentMap<Class<?>, Boolean> entitiesUsingSpel = new ConcurrentHashMap<Class<?>, Boolean>();
+	private final ConcurrentMap<Class<?>, EntityAccessor<?>> entityAccessors = new ConcurrentHashMap<Class<?>, EntityAccessor<?>>();
+	private final ConcurrentMap<Class<?>, WritePlan> writePlans = new ConcurrentHashMap<Class<?>, WritePlan>();
+	private final ConcurrentMap<Class<?>, List<String>> eagerDBRefKeys = new ConcurrentHashMap<Class<?>, List<String>>();
+	private final ThreadLocal<Map<List<Object>, DBObject>> prefetchedDBRefs = new ThreadLocal<Map<List<Object>, DBObject>>();
+
 	/**
 	 * Creates a new {@link MappingMongoConverter} with the given {@link MappingContext}.
 	 *
@@ -100,9 +125,20 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 	 */
 	public MappingMongoConverter(MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext) {
 		this.mappingContext = mappingContext;
+		this.typeMapper = new DefaultMongoTypeMapper(mappingContext);
 		this.conversionService.removeConvertible(Object.class, String.class);
 	}
 
+	/**
+	 * Configures the {@link MongoTypeMapper} to store and read type information with. Defaults to a
+	 * {@link DefaultMongoTypeMapper}.
+	 *
+	 * @param typeMapper
+	 */
+	public void setTypeMapper(MongoTypeMapper typeMapper) {
+		this.typeMapper = typeMapper == null ? new DefaultMongoTypeMapper(mappingContext) : typeMapper;
+	}
+
 	/**
 	 * Add custom {@link Converter} or {@link ConverterFactory} instances to be used that will take presidence over
 	 * metadata driven conversion between of objects to/from DBObject
@@ -114,6 +150,8 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 			for (Converter<?, ?> c : converters) {
 				registerConverter(c);
 			}
+			customTargets.clear();
+			writePlans.clear();
 		}
 	}
 
@@ -131,7 +169,39 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 		conversionService.addConverter(converter);
 	}
 
+	/**
+	 * Returns the Mongo type a custom converter converts the given source type into, optionally restricted to the given
+	 * expected target type. Lookups are cached per source and expected target type, including the ones without result,
+	 * in nested maps so that a cache hit does not allocate.
+	 *
+	 * @param source
+	 * @param expectedTargetType can be {@literal null}
+	 * @return the target type or {@literal null} if no custom converter is registered
+	 */
 	private Class<?> getCustomTarget(Class<?> source, Class<?> expectedTargetType) {
+
+		if (customTypeMapping.isEmpty()) {
+			return null;
+		}
+
+		ConcurrentMap<Class<?>, Class<?>> targets = customTargets.get(source);
+		if (targets == null) {
+			targets = new ConcurrentHashMap<Class<?>, Class<?>>();
+			ConcurrentMap<Class<?>, Class<?>> existing = customTargets.putIfAbsent(source, targets);
+			targets = existing == null ? targets : existing;
+		}
+
+		Class<?> key = expectedTargetType == null ? ANY_TARGET : expectedTargetType;
+		Class<?> target = targets.get(key);
+		if (target == null) {
+			target = lookupCustomTarget(source, expectedTargetType);
+			targets.put(key, target == null ? NO_CUSTOM_TARGET : target);
+		}
+
+		return target == NO_CUSTOM_TARGET ? null : target;
+	}
+
+	private Class<?> lookupCustomTarget(Class<?> source, Class<?> expectedTargetType) {
 		for (ConvertiblePair typePair : customTypeMapping) {
 			if (typePair.getSourceType().isAssignableFrom(source)) {
 
@@ -164,6 +234,22 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 
 	public void setUseFieldAccessOnly(boolean useFieldAccessOnly) {
 		this.useFieldAccessOnly = useFieldAccessOnly;
+		this.entityAccessors.clear();
+	}
+
+	public boolean isUseGeneratedAccessors() {
+		return useGeneratedAccessors;
+	}
+
+	/**
+	 * Configures whether to instantiate entities and access their properties through accessors that are created once
+	 * per entity type instead of looking up the members reflectively for each document. Public constructors and accessor
+	 * methods are invoked through classes generated by CGLIB if it is on the classpath. Defaults to {@literal false}.
+	 *
+	 * @param useGeneratedAccessors
+	 */
+	public void setUseGeneratedAccessors(boolean useGeneratedAccessors) {
+		this.useGeneratedAccessors = useGeneratedAccessors;
 	}
 
 	public <T> T convertObjectId(ObjectId id, Class<T> targetType) {
@@ -225,20 +311,15 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 
 	private <S extends Object> S read(final MongoPersistentEntity<S> entity, final DBObject dbo) {
 
-		final StandardEvaluationContext spelCtx = new StandardEvaluationContext();
-		if (null != applicationContext) {
+		final StandardEvaluationContext spelCtx = usesSpel(entity) ? new DBObjectEvaluationContext(dbo) : null;
+		if (null != spelCtx && null != applicationContext) {
 			spelCtx.setBeanResolver(new BeanFactoryResolver(applicationContext));
 		}
-		if (!(dbo instanceof BasicDBList)) {
-			String[] keySet = dbo.keySet().toArray(new String[]{});
-			for (String key : keySet) {
-				spelCtx.setVariable(key, dbo.get(key));
-			}
-		}
 
 		final List<String> ctorParamNames = new ArrayList<String>();
 		final MongoPersistentProperty idProperty = entity.getIdProperty();
-		final S instance = constructInstance(entity, new PreferredConstructor.ParameterValueProvider() {
+		final EntityAccessor<S> accessor = getEntityAccessor(entity);
+		PreferredConstructor.ParameterValueProvider parameterValueProvider = new PreferredConstructor.ParameterValueProvider() {
 			@SuppressWarnings("unchecked")
       public <T> T getParameterValue(PreferredConstructor.Parameter<T> parameter) {
 				String name = parameter.getName();
@@ -249,7 +330,11 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 
 				ctorParamNames.add(name);
 				if (obj instanceof DBRef) {
-					return read(type, ((DBRef) obj).fetch());
+					DBRef dbRef = (DBRef) obj;
+					if (isLazyDBRef(ReflectionUtils.findField(entity.getType(), name))) {
+						return (T) createLazyDBRefProxy(type, dbRef);
+					}
+					return read(type, resolveDBRef(dbRef));
 				} else if (obj instanceof BasicDBList) {
 					BasicDBList objAsDbList = (BasicDBList) obj;
 					List<?> l = unwrapList(objAsDbList, type);
@@ -264,7 +349,22 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 
 				return null;
 			}
-		}, spelCtx);
+		};
+
+		final S instance;
+		if (accessor != null && accessor.canInstantiate()) {
+			try {
+				instance = accessor.newInstance(parameterValueProvider);
+			} catch (InvocationTargetException e) {
+				throw new MappingException(e.getTargetException().getMessage(), e.getTargetException());
+			} catch (InstantiationException e) {
+				throw new MappingException(e.getMessage(), e);
+			} catch (IllegalAccessException e) {
+				throw new MappingException(e.getMessage(), e);
+			}
+		} else {
+			instance = constructInstance(entity, parameterValueProvider, spelCtx);
+		}
 
 		// Set properties not already set in the constructor
 		entity.doWithProperties(new PropertyHandler<MongoPersistentProperty>() {
@@ -279,7 +379,9 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 
 				Object obj = getValueInternal(prop, dbo, spelCtx, prop.getSpelExpression());
 				try {
-				  setProperty(instance, prop, obj, useFieldAccessOnly);
+					if (accessor == null || !accessor.setProperty(instance, prop, obj)) {
+						setProperty(instance, prop, obj, useFieldAccessOnly);
+					}
 				} catch (IllegalAccessException e) {
 					throw new MappingException(e.getMessage(), e);
 				} catch (InvocationTargetException e) {
@@ -294,7 +396,9 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 				MongoPersistentProperty inverseProp = association.getInverse();
 				Object obj = getValueInternal(inverseProp, dbo, spelCtx, inverseProp.getSpelExpression());
 				try {
-					setProperty(instance, inverseProp, obj);
+					if (accessor == null || !accessor.setProperty(instance, inverseProp, obj)) {
+						setProperty(instance, inverseProp, obj);
+					}
 				} catch (IllegalAccessException e) {
 					throw new MappingException(e.getMessage(), e);
 				} catch (InvocationTargetException e) {
@@ -321,7 +425,7 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 		boolean handledByCustomConverter = getCustomTarget(obj.getClass(), DBObject.class) != null;
 		
 		if (!handledByCustomConverter) {
-		  dbo.put(CUSTOM_TYPE_KEY, obj.getClass().getName());
+			typeMapper.writeType(obj.getClass(), null, dbo);
 		}
 
 		writeInternal(obj, dbo);
@@ -367,12 +471,14 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 			throw new MappingException("No mapping metadata found for entity of type " + obj.getClass().getName());
 		}
 
+		final EntityAccessor<?> accessor = getEntityAccessor(entity);
+
 		// Write the ID
 		final MongoPersistentProperty idProperty = entity.getIdProperty();
 		if (!dbo.containsField("_id") && null != idProperty) {
 			Object idObj;
 			try {
-				idObj = getProperty(obj, idProperty, Object.class, useFieldAccessOnly);
+				idObj = getPropertyValue(accessor, obj, idProperty, Object.class);
 			} catch (IllegalAccessException e) {
 				throw new MappingException(e.getMessage(), e);
 			} catch (InvocationTargetException e) {
@@ -388,46 +494,52 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 			}
 		}
 
-		// Write the properties
-		entity.doWithProperties(new PropertyHandler<MongoPersistentProperty>() {
-			public void doWithPersistentProperty(MongoPersistentProperty prop) {
-				String name = prop.getName();
-				Class<?> type = prop.getType();
-				Object propertyObj;
-				try {
-					propertyObj = getProperty(obj, prop, type, useFieldAccessOnly);
-				} catch (IllegalAccessException e) {
-					throw new MappingException(e.getMessage(), e);
-				} catch (InvocationTargetException e) {
-					throw new MappingException(e.getMessage(), e);
-				}
+		WritePlan plan = getWritePlan(entity);
+
+		try {
+			// Write the properties
+			for (PropertyWrite write : plan.properties) {
+				MongoPersistentProperty prop = write.property;
+				Object propertyObj = getPropertyValue(accessor, obj, prop, prop.getType());
 				if (null != propertyObj) {
-					if (!isSimpleType(propertyObj.getClass())) {
-						writePropertyInternal(prop, propertyObj, dbo);
+					if (write.kind == WriteKind.SIMPLE || isSimpleType(propertyObj.getClass())) {
+						dbo.put(prop.getName(), propertyObj);
 					} else {
-						dbo.put(name, propertyObj);
+						writePropertyInternal(write, propertyObj, dbo);
 					}
 				}
 			}
-		});
 
-		entity.doWithAssociations(new AssociationHandler<MongoPersistentProperty>() {
-			public void doWithAssociation(Association<MongoPersistentProperty> association) {
-			  MongoPersistentProperty inverseProp = association.getInverse();
-				Class<?> type = inverseProp.getType();
-				Object propertyObj;
-				try {
-					propertyObj = getProperty(obj, inverseProp, type, useFieldAccessOnly);
-				} catch (IllegalAccessException e) {
-					throw new MappingException(e.getMessage(), e);
-				} catch (InvocationTargetException e) {
-					throw new MappingException(e.getMessage(), e);
-				}
+			// Write the associations
+			for (PropertyWrite write : plan.associations) {
+				MongoPersistentProperty inverseProp = write.property;
+				Object propertyObj = getPropertyValue(accessor, obj, inverseProp, inverseProp.getType());
 				if (null != propertyObj) {
-					writePropertyInternal(inverseProp, propertyObj, dbo);
+					writePropertyInternal(write, propertyObj, dbo);
 				}
 			}
-		});
+		} catch (IllegalAccessException e) {
+			throw new MappingException(e.getMessage(), e);
+		} catch (InvocationTargetException e) {
+			throw new MappingException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Returns the {@link WritePlan} for the given entity, collecting its properties and associations on first use. Plans
+	 * are dropped once custom converters are registered as they capture the custom target types of properties.
+	 *
+	 * @param entity
+	 * @return
+	 */
+	private WritePlan getWritePlan(MongoPersistentEntity<?> entity) {
+
+		WritePlan plan = writePlans.get(entity.getType());
+		if (plan == null) {
+			plan = new WritePlan(entity);
+			writePlans.put(entity.getType(), plan);
+		}
+		return plan;
 	}
 
 	public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
@@ -456,88 +568,236 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 		setConversionService(conversionService);
 	}
 
-	@SuppressWarnings({"unchecked"})
-	protected void writePropertyInternal(MongoPersistentProperty prop, Object obj, DBObject dbo) {
-		org.springframework.data.document.mongodb.mapping.DBRef dbref = prop.getField()
-				.getAnnotation(org.springframework.data.document.mongodb.mapping.DBRef.class);
+	/**
+	 * Returns whether any property or constructor parameter of the given entity is populated using a SpEL expression.
+	 *
+	 * @param entity
+	 * @return
+	 */
+	private boolean usesSpel(MongoPersistentEntity<?> entity) {
 
-		String name = prop.getName();
-		Class<?> type = prop.getType();
-		if (prop.isCollection()) {
-			BasicDBList dbList = new BasicDBList();
-			Collection<?> coll;
-			if (type.isArray()) {
-				coll = new ArrayList<Object>();
-				for (Object o : (Object[]) obj) {
-					((List<Object>) coll).add(o);
-				}
-			} else {
-				coll = (Collection<?>) obj;
-			}
-			for (Object propObjItem : coll) {
-				if (null != dbref) {
-					DBRef dbRef = createDBRef(propObjItem, dbref);
-					dbList.add(dbRef);
-				} else if (type.isArray() && isSimpleType(prop.getComponentType())) {
-					dbList.add(propObjItem);
-				} else if (propObjItem instanceof List) {
-					List<?> propObjColl = (List<?>) propObjItem;
-					TypeInformation<?> typeInfo = ClassTypeInformation.from(propObjItem.getClass());
-					while (typeInfo.isCollectionLike()) {
-						typeInfo = typeInfo.getComponentType();
-					}
-					if (isSimpleType(typeInfo.getType())) {
-						dbList.add(propObjColl);
-					} else {
-						BasicDBList propNestedDbList = new BasicDBList();
-						for (Object propNestedObjItem : propObjColl) {
-							BasicDBObject propDbObj = new BasicDBObject();
-							writeInternal(propNestedObjItem, propDbObj);
-							propNestedDbList.add(propDbObj);
-						}
-						dbList.add(propNestedDbList);
-					}
-				} else if (isSimpleType(propObjItem.getClass())) {
-					dbList.add(propObjItem);
-				} else {
-					BasicDBObject propDbObj = new BasicDBObject();
-					writeInternal(propObjItem, propDbObj, mappingContext.getPersistentEntity(prop.getComponentType()));
-					dbList.add(propDbObj);
+		Boolean result = entitiesUsingSpel.get(entity.getType());
+		if (result != null) {
+			return result;
+		}
+
+		final boolean[] usesSpel = new boolean[1];
+		entity.doWithProperties(new PropertyHandler<MongoPersistentProperty>() {
+			public void doWithPersistentProperty(MongoPersistentProperty property) {
+				usesSpel[0] |= property.getSpelExpression() != null;
+			}
+		});
+		entity.doWithAssociations(new AssociationHandler<MongoPersistentProperty>() {
+			public void doWithAssociation(Association<MongoPersistentProperty> association) {
+				usesSpel[0] |= association.getInverse().getSpelExpression() != null;
+			}
+		});
+
+		PreferredConstructor<?> constructor = entity.getPreferredConstructor();
+		if (constructor != null) {
+			for (Annotation[] annotations : constructor.getConstructor().getParameterAnnotations()) {
+				for (Annotation annotation : annotations) {
+					usesSpel[0] |= annotation instanceof Value;
 				}
 			}
-			dbo.put(name, dbList);
-			return;
 		}
 
-		if (null != obj && obj instanceof Map) {
-			BasicDBObject mapDbObj = new BasicDBObject();
-			writeMapInternal((Map<Object, Object>) obj, mapDbObj);
-			dbo.put(name, mapDbObj);
-			return;
+		entitiesUsingSpel.put(entity.getType(), usesSpel[0]);
+		return usesSpel[0];
+	}
+
+	/**
+	 * Returns the parsed form of the given SpEL expression, parsing it only on first use.
+	 *
+	 * @param spelExpr
+	 * @return
+	 */
+	private Expression getExpression(String spelExpr) {
+		Expression expression = expressions.get(spelExpr);
+		if (expression == null) {
+			expression = spelExpressionParser.parseExpression(spelExpr);
+			expressions.put(spelExpr, expression);
 		}
+		return expression;
+	}
 
-		if (null != dbref) {
-			DBRef dbRefObj = createDBRef(obj, dbref);
-			if (null != dbRefObj) {
-				dbo.put(name, dbRefObj);
-				return;
+	/**
+	 * Returns the {@link EntityAccessor} for the given entity or {@literal null} if generated accessors are not to be
+	 * used.
+	 *
+	 * @param entity
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	private <S> EntityAccessor<S> getEntityAccessor(MongoPersistentEntity<S> entity) {
+
+		if (!useGeneratedAccessors) {
+			return null;
+		}
+
+		EntityAccessor<?> accessor = entityAccessors.get(entity.getType());
+		if (accessor == null) {
+			accessor = new EntityAccessor<S>(entity, useFieldAccessOnly);
+			EntityAccessor<?> existing = entityAccessors.putIfAbsent(entity.getType(), accessor);
+			accessor = existing == null ? accessor : existing;
+		}
+		return (EntityAccessor<S>) accessor;
+	}
+
+	private Object getPropertyValue(EntityAccessor<?> accessor, Object obj, MongoPersistentProperty prop, Class<?> type)
+			throws IllegalAccessException, InvocationTargetException {
+
+		if (accessor != null) {
+			Object value = accessor.getProperty(obj, prop);
+			if (value == null || ClassUtils.resolvePrimitiveIfNecessary(type).isInstance(value)) {
+				return value;
 			}
 		}
+		return getProperty(obj, prop, type, useFieldAccessOnly);
+	}
+
+	protected void writePropertyInternal(MongoPersistentProperty prop, Object obj, DBObject dbo) {
+		writePropertyInternal(new PropertyWrite(prop), obj, dbo);
+	}
+
+	/**
+	 * Writes the given non-simple value of a property the way the given {@link PropertyWrite} determined from the
+	 * property's declaration.
+	 *
+	 * @param write
+	 * @param obj
+	 * @param dbo
+	 */
+	@SuppressWarnings({"unchecked"})
+	private void writePropertyInternal(PropertyWrite write, Object obj, DBObject dbo) {
+
+		MongoPersistentProperty prop = write.property;
+		String name = prop.getName();
+
+		switch (write.kind) {
+			case COLLECTION:
+				writeCollectionInternal(write, obj, dbo);
+				return;
+			case MAP:
+				writeMapPropertyInternal(prop, (Map<Object, Object>) obj, dbo);
+				return;
+			case DBREF:
+				DBRef dbRefObj = createDBRef(obj, write.dbref);
+				if (null != dbRefObj) {
+					dbo.put(name, dbRefObj);
+					return;
+				}
+				break;
+			case DYNAMIC:
+				if (obj instanceof Map) {
+					writeMapPropertyInternal(prop, (Map<Object, Object>) obj, dbo);
+					return;
+				}
+				break;
+			default:
+				break;
+		}
 
 		// Lookup potential custom target type
-		Class<?> basicTargetType = getCustomTarget(obj.getClass(), null);
+		Class<?> basicTargetType = write.getCustomTarget(obj);
 
 		if (basicTargetType != null) {
 			dbo.put(name, conversionService.convert(obj, basicTargetType));
 			return;
 		}
 
-		BasicDBObject propDbObj = new BasicDBObject();
-		writeInternal(obj, propDbObj, mappingContext.getPersistentEntity(prop.getTypeInformation()));
+		MongoPersistentEntity<?> entity = write.getEntity();
+		DBObject propDbObj = createDBObject(entity);
+		writeInternal(obj, propDbObj, entity);
 		dbo.put(name, propDbObj);
 	}
 
+	@SuppressWarnings({"unchecked"})
+	private void writeCollectionInternal(PropertyWrite write, Object obj, DBObject dbo) {
+
+		MongoPersistentProperty prop = write.property;
+		BasicDBList dbList = new BasicDBList();
+		Collection<?> coll;
+		if (prop.getType().isArray()) {
+			coll = new ArrayList<Object>();
+			for (Object o : (Object[]) obj) {
+				((List<Object>) coll).add(o);
+			}
+		} else {
+			coll = (Collection<?>) obj;
+		}
+		for (Object propObjItem : coll) {
+			if (null != write.dbref) {
+				DBRef dbRef = createDBRef(propObjItem, write.dbref);
+				dbList.add(dbRef);
+			} else if (write.simpleArray) {
+				dbList.add(propObjItem);
+			} else if (propObjItem instanceof List) {
+				List<?> propObjColl = (List<?>) propObjItem;
+				TypeInformation<?> typeInfo = ClassTypeInformation.from(propObjItem.getClass());
+				while (typeInfo.isCollectionLike()) {
+					typeInfo = typeInfo.getComponentType();
+				}
+				if (isSimpleType(typeInfo.getType())) {
+					dbList.add(propObjColl);
+				} else {
+					BasicDBList propNestedDbList = new BasicDBList();
+					for (Object propNestedObjItem : propObjColl) {
+						BasicDBObject propDbObj = new BasicDBObject();
+						writeInternal(propNestedObjItem, propDbObj);
+						propNestedDbList.add(propDbObj);
+					}
+					dbList.add(propNestedDbList);
+				}
+			} else if (isSimpleType(propObjItem.getClass())) {
+				dbList.add(propObjItem);
+			} else {
+				MongoPersistentEntity<?> componentEntity = write.getComponentEntity();
+				DBObject propDbObj = createDBObject(componentEntity);
+				writeInternal(propObjItem, propDbObj, componentEntity);
+				dbList.add(propDbObj);
+			}
+		}
+		dbo.put(prop.getName(), dbList);
+	}
+
+	private void writeMapPropertyInternal(MongoPersistentProperty prop, Map<Object, Object> map, DBObject dbo) {
+		BasicDBObject mapDbObj = new BasicDBObject();
+		writeMapInternal(map, mapDbObj, prop.getMapValueType());
+		dbo.put(prop.getName(), mapDbObj);
+	}
+
+	/**
+	 * Creates the {@link DBObject} to write an object of the given entity into, sized for the properties and associations
+	 * of the entity along with its id and type information.
+	 *
+	 * @param entity
+	 * @return
+	 */
+	private DBObject createDBObject(MongoPersistentEntity<?> entity) {
+
+		if (entity == null) {
+			return new BasicDBObject();
+		}
+
+		WritePlan plan = getWritePlan(entity);
+		int keys = plan.properties.length + plan.associations.length + 2;
+		return new BasicDBObject((int) (keys / 0.75f) + 1);
+	}
+
 	protected void writeMapInternal(Map<Object, Object> obj, DBObject dbo) {
+		writeMapInternal(obj, dbo, null);
+	}
+
+	/**
+	 * Writes the given {@link Map} into the given {@link DBObject}. Type information for complex values is only stored if
+	 * required by the configured {@link MongoTypeMapper} given the declared value type.
+	 *
+	 * @param obj
+	 * @param dbo
+	 * @param declaredValueType the value type declared by the {@link Map} property, can be {@literal null}
+	 */
+	protected void writeMapInternal(Map<Object, Object> obj, DBObject dbo, Class<?> declaredValueType) {
 		for (Map.Entry<Object, Object> entry : obj.entrySet()) {
 			Object key = entry.getKey();
 			Object val = entry.getValue();
@@ -554,9 +814,9 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 							|| componentType.isAssignableFrom(Collection.class)
 							|| componentType.isAssignableFrom(List.class)) {
 						Class<?> ctype = val.getClass().getComponentType();
-						dbo.put("_class", (null != ctype ? ctype.getName() : componentType.getName()));
+						typeMapper.writeType(null != ctype ? ctype : componentType, declaredValueType, dbo);
 					} else {
-						dbo.put("_class", componentType.getName());
+						typeMapper.writeType(componentType, declaredValueType, dbo);
 					}
 					writeInternal(val, newDbo);
 					dbo.put(simpleKey, newDbo);
@@ -605,7 +865,7 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 
 		Object o;
 		if (null != spelExpr) {
-			Expression x = spelExpressionParser.parseExpression(spelExpr);
+			Expression x = getExpression(spelExpr);
 			o = x.getValue(ctx);
 		} else {
 		  
@@ -622,8 +882,13 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 				return conversionService.convert(dbObj, propertyType);
 			}
 
+			boolean lazy = isLazyDBRef(prop.getField());
+
 			if (dbObj instanceof DBRef) {
-				dbObj = ((DBRef) dbObj).fetch();
+				if (lazy) {
+					return createLazyDBRefProxy(prop.getTypeInformation(), (DBRef) dbObj);
+				}
+				dbObj = resolveDBRef((DBRef) dbObj);
 			}
 			if (dbObj instanceof DBObject) {
 				if (prop.isMap() && dbObj instanceof DBObject) {
@@ -633,7 +898,7 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 					Map<String, Object> m = new LinkedHashMap<String, Object>();
 
 					for (Map.Entry<String, Object> entry : ((Map<String, Object>) ((DBObject) dbObj).toMap()).entrySet()) {
-						if (entry.getKey().equals(CUSTOM_TYPE_KEY)) {
+						if (typeMapper.isTypeKey(entry.getKey())) {
 							continue;
 						}
 						if (null != entry.getValue() && entry.getValue() instanceof DBObject) {
@@ -648,11 +913,14 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 					return Array.newInstance(prop.getComponentType(), 0);
 				} else if (prop.isCollection() && dbObj instanceof BasicDBList) {
 					BasicDBList dbObjList = (BasicDBList) dbObj;
+					Map<List<Object>, DBObject> references = lazy ? null : resolveDBRefs(dbObjList);
 					List<Object> items = new LinkedList<Object>();
 					for (int i = 0; i < dbObjList.size(); i++) {
 						Object dbObjItem = dbObjList.get(i);
-						if (dbObjItem instanceof DBRef) {
-							items.add(read(prop.getComponentType(), ((DBRef) dbObjItem).fetch()));
+						if (dbObjItem instanceof DBRef && lazy) {
+							items.add(createLazyDBRefProxy(ClassTypeInformation.from(prop.getComponentType()), (DBRef) dbObjItem));
+						} else if (dbObjItem instanceof DBRef) {
+							items.add(read(prop.getComponentType(), references.get(getReferenceKey((DBRef) dbObjItem))));
 						} else if (dbObjItem instanceof DBObject) {
 							items.add(read(prop.getComponentType(), (DBObject) dbObjItem));
 						} else {
@@ -683,23 +951,248 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 	}
 
 	/**
-	 * Returns the type to be used to convert the DBObject given to.
+	 * Returns whether the given field is annotated with a {@link org.springframework.data.document.mongodb.mapping.DBRef}
+	 * to be resolved lazily.
 	 *
-	 * @param dbObject
+	 * @param field can be {@literal null}
 	 * @return
 	 */
-	protected Class<?> findTypeToBeUsed(DBObject dbObject) {
-		Object classToBeUsed = dbObject.get(CUSTOM_TYPE_KEY);
+	private static boolean isLazyDBRef(Field field) {
+		if (field == null) {
+			return false;
+		}
+		org.springframework.data.document.mongodb.mapping.DBRef dbref = field
+				.getAnnotation(org.springframework.data.document.mongodb.mapping.DBRef.class);
+		return dbref != null && dbref.lazy();
+	}
 
-		if (classToBeUsed == null) {
-			return null;
+	/**
+	 * Resolves the {@link DBRef}s of the given documents of the given type that are not to be resolved lazily, issuing a
+	 * single query per referenced collection. The resolved documents are used by subsequent reads of the current thread
+	 * until {@link #clearPrefetchedDBRefs()} is called. If references were already prefetched by the current thread the
+	 * newly resolved ones are added to them.
+	 *
+	 * @param type the type the documents will be read into
+	 * @param dbObjects the documents to be read
+	 * @return whether the call started prefetching for the current thread and the caller thus has to call
+	 *         {@link #clearPrefetchedDBRefs()} once the documents are read
+	 */
+	public boolean prefetchDBRefs(Class<?> type, Collection<DBObject> dbObjects) {
+
+		List<String> keys = getEagerDBRefKeys(type);
+		if (keys.isEmpty()) {
+			return false;
 		}
 
-		try {
-			return Class.forName(classToBeUsed.toString());
-		} catch (ClassNotFoundException e) {
-			throw new MappingException(e.getMessage(), e);
+		List<DBRef> references = new ArrayList<DBRef>();
+		for (DBObject dbObject : dbObjects) {
+			for (String key : keys) {
+				Object value = dbObject.get(key);
+				if (value instanceof DBRef) {
+					references.add((DBRef) value);
+				} else if (value instanceof BasicDBList) {
+					for (Object element : (BasicDBList) value) {
+						if (element instanceof DBRef) {
+							references.add((DBRef) element);
+						}
+					}
+				}
+			}
+		}
+
+		Map<List<Object>, DBObject> prefetched = prefetchedDBRefs.get();
+		boolean started = prefetched == null;
+		if (started) {
+			prefetched = new HashMap<List<Object>, DBObject>();
+		}
+
+		fetchDBRefs(references, prefetched);
+
+		if (started) {
+			prefetchedDBRefs.set(prefetched);
+		}
+		return started;
+	}
+
+	/**
+	 * Returns whether the given type has {@link DBRef}s that are not resolved lazily and thus whether
+	 * {@link #prefetchDBRefs(Class, Collection)} can save queries when reading documents of it.
+	 *
+	 * @param type
+	 * @return
+	 */
+	public boolean hasEagerDBRefs(Class<?> type) {
+		return !getEagerDBRefKeys(type).isEmpty();
+	}
+
+	private List<String> getEagerDBRefKeys(Class<?> type) {
+
+		List<String> keys = eagerDBRefKeys.get(type);
+		if (keys != null) {
+			return keys;
+		}
+
+		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(type);
+		if (entity == null) {
+			return Collections.emptyList();
+		}
+
+		final List<String> result = new ArrayList<String>();
+		entity.doWithAssociations(new AssociationHandler<MongoPersistentProperty>() {
+			public void doWithAssociation(Association<MongoPersistentProperty> association) {
+				MongoPersistentProperty property = association.getInverse();
+				if (!isLazyDBRef(property.getField())) {
+					result.add(property.getKey());
+				}
+			}
+		});
+
+		eagerDBRefKeys.put(type, result);
+		return result;
+	}
+
+	/**
+	 * Discards the {@link DBRef}s prefetched for the current thread.
+	 *
+	 * @see #prefetchDBRefs(Class, Collection)
+	 */
+	public void clearPrefetchedDBRefs() {
+		prefetchedDBRefs.remove();
+	}
+
+	/**
+	 * Returns the document the given {@link DBRef} points to, using the ones prefetched for the current thread if
+	 * available.
+	 *
+	 * @param dbRef
+	 * @return
+	 */
+	private DBObject resolveDBRef(DBRef dbRef) {
+		Map<List<Object>, DBObject> prefetched = prefetchedDBRefs.get();
+		if (prefetched != null) {
+			List<Object> key = getReferenceKey(dbRef);
+			if (prefetched.containsKey(key)) {
+				return prefetched.get(key);
+			}
+		}
+		return dbRef.fetch();
+	}
+
+	/**
+	 * Resolves all {@link DBRef}s contained in the given values, issuing a single query per referenced collection for the
+	 * ones that were not prefetched for the current thread.
+	 *
+	 * @param values
+	 * @return the resolved documents by {@link #getReferenceKey(DBRef)}, {@literal null} for dangling references
+	 */
+	private Map<List<Object>, DBObject> resolveDBRefs(Collection<?> values) {
+
+		Map<List<Object>, DBObject> prefetched = prefetchedDBRefs.get();
+		Map<List<Object>, DBObject> result = new HashMap<List<Object>, DBObject>();
+		List<DBRef> references = new ArrayList<DBRef>();
+
+		for (Object value : values) {
+			if (value instanceof DBRef) {
+				List<Object> key = getReferenceKey((DBRef) value);
+				if (prefetched != null && prefetched.containsKey(key)) {
+					result.put(key, prefetched.get(key));
+				} else {
+					references.add((DBRef) value);
+				}
+			}
 		}
+
+		fetchDBRefs(references, result);
+		return result;
+	}
+
+	/**
+	 * Fetches the documents the given {@link DBRef}s point to that are not contained in the given {@link Map} yet using
+	 * a single {@code $in} query per database and collection and adds them to it. Dangling references are mapped to
+	 * {@literal null}.
+	 *
+	 * @param references
+	 * @param resolved
+	 */
+	private void fetchDBRefs(List<DBRef> references, Map<List<Object>, DBObject> resolved) {
+
+		Map<List<Object>, List<Object>> idsByCollection = new LinkedHashMap<List<Object>, List<Object>>();
+		Map<List<Object>, DB> databases = new HashMap<List<Object>, DB>();
+
+		for (DBRef reference : references) {
+			List<Object> key = getReferenceKey(reference);
+			if (resolved.containsKey(key)) {
+				continue;
+			}
+			resolved.put(key, null);
+
+			List<Object> collection = key.subList(0, 2);
+			List<Object> ids = idsByCollection.get(collection);
+			if (ids == null) {
+				ids = new ArrayList<Object>();
+				idsByCollection.put(collection, ids);
+				databases.put(collection, reference.getDB());
+			}
+			ids.add(reference.getId());
+		}
+
+		for (Map.Entry<List<Object>, List<Object>> entry : idsByCollection.entrySet()) {
+
+			DB db = databases.get(entry.getKey());
+			String collectionName = (String) entry.getKey().get(1);
+			DBCursor cursor = db.getCollection(collectionName).find(
+					new BasicDBObject("_id", new BasicDBObject("$in", entry.getValue())));
+
+			try {
+				while (cursor.hasNext()) {
+					DBObject document = cursor.next();
+					resolved.put(Arrays.<Object>asList(db.getName(), collectionName, document.get("_id")), document);
+				}
+			} finally {
+				cursor.close();
+			}
+		}
+	}
+
+	private static List<Object> getReferenceKey(DBRef dbRef) {
+		return Arrays.<Object>asList(dbRef.getDB().getName(), dbRef.getRef(), dbRef.getId());
+	}
+
+	/**
+	 * Creates a proxy of the given type that fetches and reads the given {@link DBRef} on first access and delegates to
+	 * the resolved object from then on. Interfaces are proxied using JDK proxies, classes using CGLIB. If the referenced
+	 * document does not exist, every access to the proxy throws a {@link MappingException}.
+	 *
+	 * @param type
+	 * @param dbRef
+	 * @return
+	 */
+	protected Object createLazyDBRefProxy(TypeInformation<?> type, DBRef dbRef) {
+
+		Class<?> rawType = type.getType();
+		ProxyFactory factory = new ProxyFactory();
+		factory.setTargetSource(new LazyDBRefTargetSource(type, dbRef));
+
+		if (rawType.isInterface()) {
+			factory.addInterface(rawType);
+		} else if (Modifier.isFinal(rawType.getModifiers())) {
+			throw new MappingException("Cannot create lazy reference proxy for final class " + rawType.getName());
+		} else {
+			factory.setProxyTargetClass(true);
+		}
+
+		return factory.getProxy(rawType.getClassLoader());
+	}
+
+	/**
+	 * Returns the type to be used to convert the DBObject given to.
+	 *
+	 * @param dbObject
+	 * @return
+	 * @see MongoTypeMapper#readType(DBObject)
+	 */
+	protected Class<?> findTypeToBeUsed(DBObject dbObject) {
+		return typeMapper.readType(dbObject);
 	}
 
   /**
@@ -738,4 +1231,208 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 		initializeConverters();
 	}
 
+	/**
+	 * {@link TargetSource} fetching the referenced document on first access and caching the object read from it.
+	 */
+	private class LazyDBRefTargetSource implements TargetSource {
+
+		private final TypeInformation<?> type;
+		private final DBRef dbRef;
+		private boolean resolved = false;
+		private Object target;
+
+		public LazyDBRefTargetSource(TypeInformation<?> type, DBRef dbRef) {
+			this.type = type;
+			this.dbRef = dbRef;
+		}
+
+		public Class<?> getTargetClass() {
+			return type.getType();
+		}
+
+		public boolean isStatic() {
+			return false;
+		}
+
+		public synchronized Object getTarget() {
+			if (!resolved) {
+				target = read(type, dbRef.fetch());
+				resolved = true;
+			}
+			if (target == null) {
+				throw new MappingException("Could not resolve reference to " + dbRef.getId() + " in collection "
+						+ dbRef.getRef());
+			}
+			return target;
+		}
+
+		public void releaseTarget(Object target) {
+		}
+	}
+
+	/**
+	 * The properties and associations of an entity in the order they are written. Collected once per entity so writing
+	 * an object does not need to go through the entity's handler callbacks.
+	 */
+	private class WritePlan {
+
+		private final PropertyWrite[] properties;
+		private final PropertyWrite[] associations;
+
+		public WritePlan(MongoPersistentEntity<?> entity) {
+
+			final List<PropertyWrite> properties = new ArrayList<PropertyWrite>();
+			entity.doWithProperties(new PropertyHandler<MongoPersistentProperty>() {
+				public void doWithPersistentProperty(MongoPersistentProperty property) {
+					properties.add(new PropertyWrite(property));
+				}
+			});
+
+			final List<PropertyWrite> associations = new ArrayList<PropertyWrite>();
+			entity.doWithAssociations(new AssociationHandler<MongoPersistentProperty>() {
+				public void doWithAssociation(Association<MongoPersistentProperty> association) {
+					associations.add(new PropertyWrite(association.getInverse()));
+				}
+			});
+
+			this.properties = properties.toArray(new PropertyWrite[properties.size()]);
+			this.associations = associations.toArray(new PropertyWrite[associations.size()]);
+		}
+	}
+
+	/**
+	 * The way a property's value is written as far as it can be decided from the property's declaration.
+	 */
+	private static enum WriteKind {
+
+		/**
+		 * A final simple type whose values are stored as is.
+		 */
+		SIMPLE,
+
+		/**
+		 * A {@link Collection} or array.
+		 */
+		COLLECTION,
+
+		/**
+		 * A {@link Map}.
+		 */
+		MAP,
+
+		/**
+		 * A single reference annotated with {@link org.springframework.data.document.mongodb.mapping.DBRef}.
+		 */
+		DBREF,
+
+		/**
+		 * A type whose values are written using a custom converter or as nested entity.
+		 */
+		ENTITY,
+
+		/**
+		 * An interface or a supertype of the common {@link Map} implementations, so the value might be a {@link Map}.
+		 */
+		DYNAMIC
+	}
+
+	/**
+	 * Captures how a single property is written. The {@link WriteKind}, the
+	 * {@link org.springframework.data.document.mongodb.mapping.DBRef} annotation and, for final types, the custom target
+	 * type are resolved up front. The entities to write nested values with are resolved on first use.
+	 */
+	private class PropertyWrite {
+
+		private final MongoPersistentProperty property;
+		private final org.springframework.data.document.mongodb.mapping.DBRef dbref;
+		private final WriteKind kind;
+		private final boolean simpleArray;
+		private final boolean fixedType;
+		private final Class<?> customTarget;
+		private volatile MongoPersistentEntity<?> entity;
+		private volatile MongoPersistentEntity<?> componentEntity;
+
+		public PropertyWrite(MongoPersistentProperty property) {
+
+			Class<?> type = property.getType();
+
+			this.property = property;
+			this.dbref = property.getField().getAnnotation(org.springframework.data.document.mongodb.mapping.DBRef.class);
+			this.fixedType = type.isPrimitive() || Modifier.isFinal(type.getModifiers());
+			this.simpleArray = type.isArray() && isSimpleType(property.getComponentType());
+
+			if (property.isCollection()) {
+				this.kind = WriteKind.COLLECTION;
+			} else if (Map.class.isAssignableFrom(type)) {
+				this.kind = WriteKind.MAP;
+			} else if (dbref != null) {
+				this.kind = WriteKind.DBREF;
+			} else if (fixedType && isSimpleType(type)) {
+				this.kind = WriteKind.SIMPLE;
+			} else if (type.isInterface() || type.isAssignableFrom(HashMap.class)) {
+				this.kind = WriteKind.DYNAMIC;
+			} else {
+				this.kind = WriteKind.ENTITY;
+			}
+
+			this.customTarget = fixedType ? MappingMongoConverter.this.getCustomTarget(type, null) : null;
+		}
+
+		/**
+		 * Returns the custom target type to convert the given value of the property into, {@literal null} if none is
+		 * registered.
+		 *
+		 * @param value
+		 * @return
+		 */
+		public Class<?> getCustomTarget(Object value) {
+			return fixedType ? customTarget : MappingMongoConverter.this.getCustomTarget(value.getClass(), null);
+		}
+
+		/**
+		 * Returns the entity a non-simple value of the property is written with.
+		 *
+		 * @return
+		 */
+		public MongoPersistentEntity<?> getEntity() {
+			if (entity == null) {
+				entity = mappingContext.getPersistentEntity(property.getTypeInformation());
+			}
+			return entity;
+		}
+
+		/**
+		 * Returns the entity non-simple elements of a collection property are written with.
+		 *
+		 * @return
+		 */
+		public MongoPersistentEntity<?> getComponentEntity() {
+			if (componentEntity == null) {
+				componentEntity = mappingContext.getPersistentEntity(property.getComponentType());
+			}
+			return componentEntity;
+		}
+	}
+
+	/**
+	 * {@link StandardEvaluationContext} exposing the top-level fields of a {@link DBObject} as variables. The values are
+	 * looked up on access rather than being copied into the context up front.
+	 */
+	private static class DBObjectEvaluationContext extends StandardEvaluationContext {
+
+		private final DBObject dbObject;
+
+		public DBObjectEvaluationContext(DBObject dbObject) {
+			this.dbObject = dbObject;
+		}
+
+		@Override
+		public Object lookupVariable(String name) {
+			Object value = super.lookupVariable(name);
+			if (value == null && !(dbObject instanceof BasicDBList)) {
+				value = dbObject.get(name);
+			}
+			return value;
+		}
+	}
 }
@@ -45,6 +45,20 @@ class MongoBeanWrapper {
    * @param fieldAccess
    */
   public MongoBeanWrapper(Object target, ConversionService conversionService, boolean fieldAccess) {
+    this(target, conversionService, fieldAccess, null);
+  }
+
+  /**
+   * Creates a new {@link MongoBeanWrapper} for the given target object and {@link ConversionService} using the given
+   * {@link MongoPropertyDescriptors} instead of inspecting the target's type again.
+   *
+   * @param target
+   * @param conversionService
+   * @param fieldAccess
+   * @param descriptors the {@link MongoPropertyDescriptors} of the target's type, can be {@literal null}
+   */
+  public MongoBeanWrapper(Object target, ConversionService conversionService, boolean fieldAccess,
+                          MongoPropertyDescriptors descriptors) {
 
     Assert.notNull(target);
     Assert.notNull(conversionService);
@@ -52,7 +66,7 @@ class MongoBeanWrapper {
     this.fieldAccess = fieldAccess;
     this.accessor = fieldAccess ? forDirectFieldAccess(target) : forBeanPropertyAccess(target);
     this.accessor.setConversionService(conversionService);
-    this.descriptors = new MongoPropertyDescriptors(target.getClass());
+    this.descriptors = descriptors == null ? new MongoPropertyDescriptors(target.getClass()) : descriptors;
   }
 
   /**
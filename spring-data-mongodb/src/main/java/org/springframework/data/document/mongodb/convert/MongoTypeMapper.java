@@ -0,0 +1,49 @@
+/*
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.document.mongodb.convert;
+
+import com.mongodb.DBObject;
+
+/**
+ * Strategy to store type information in a {@link DBObject} and to read it back.
+ */
+public interface MongoTypeMapper {
+
+  /**
+   * Returns the type stored in the given {@link DBObject}.
+   *
+   * @param dbObject
+   * @return the type or {@literal null} if none is stored or it cannot be resolved
+   */
+  Class<?> readType(DBObject dbObject);
+
+  /**
+   * Stores the given type in the given {@link DBObject}.
+   *
+   * @param type         the type of the object written
+   * @param declaredType the type declared by the property holding the object, {@literal null} if unknown
+   * @param dbObject
+   */
+  void writeType(Class<?> type, Class<?> declaredType, DBObject dbObject);
+
+  /**
+   * Returns whether the given key is the one used to store type information.
+   *
+   * @param key
+   * @return
+   */
+  boolean isTypeKey(String key);
+}
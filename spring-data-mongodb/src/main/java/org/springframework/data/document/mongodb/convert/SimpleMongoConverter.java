@@ -35,6 +35,8 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Pattern;
 
 import com.mongodb.BasicDBList;
@@ -54,7 +56,9 @@ import org.springframework.core.convert.converter.Converter;
 import org.springframework.core.convert.converter.ConverterFactory;
 import org.springframework.core.convert.support.ConversionServiceFactory;
 import org.springframework.core.convert.support.GenericConversionService;
+import org.springframework.data.document.mongodb.MongoPropertyDescriptors;
 import org.springframework.data.document.mongodb.MongoPropertyDescriptors.MongoPropertyDescriptor;
+import org.springframework.data.document.mongodb.MongoPropertyDescriptors.MongoPropertyDescriptor.PropertyStrategy;
 import org.springframework.data.document.mongodb.mapping.MongoPersistentEntity;
 import org.springframework.data.document.mongodb.mapping.MongoPersistentProperty;
 import org.springframework.data.document.mongodb.mapping.SimpleMongoMappingContext;
@@ -75,6 +79,7 @@ public class SimpleMongoConverter extends AbstractMongoConverter implements Init
 	@SuppressWarnings("unchecked")
 	private static final List<Class<?>> MONGO_TYPES = Arrays.asList(Number.class, Date.class, String.class, DBObject.class);
 	private static final Set<String> SIMPLE_TYPES;
+	private static final Class<?> NO_CUSTOM_TARGET = Void.class;
 
 	static {
 		Set<String> basics = new HashSet<String>();
@@ -127,6 +132,8 @@ public class SimpleMongoConverter extends AbstractMongoConverter implements Init
 
 	private final GenericConversionService conversionService;
 	private final MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext;
+	private final ConcurrentMap<Class<?>, MongoPropertyDescriptors> descriptors = new ConcurrentHashMap<Class<?>, MongoPropertyDescriptors>();
+	private final ConcurrentMap<Class<?>, Class<?>> customTargetTypes = new ConcurrentHashMap<Class<?>, Class<?>>();
 
 	/**
 	 * Creates a {@link SimpleMongoConverter}.
@@ -162,6 +169,7 @@ public class SimpleMongoConverter extends AbstractMongoConverter implements Init
 		if (!conversionService.canConvert(BigInteger.class, ObjectId.class)) {
 			conversionService.addConverter(BigIntegerToObjectIdConverter.INSTANCE);
 		}
+		customTargetTypes.clear();
 	}
 
 	/**
@@ -185,6 +193,7 @@ public class SimpleMongoConverter extends AbstractMongoConverter implements Init
 				throw new IllegalArgumentException("Given set contains element that is neither Converter nor ConverterFactory!");
 			}
 		}
+		customTargetTypes.clear();
 	}
 
 	/*
@@ -205,12 +214,14 @@ public class SimpleMongoConverter extends AbstractMongoConverter implements Init
 				}
 
 				String keyToUse = descriptor.getKeyToMap();
-				if (descriptor.isEnum()) {
-					writeValue(dbo, keyToUse, ((Enum) value).name());
-				} else if (descriptor.isIdProperty() && descriptor.isOfIdType()) {
+				switch (descriptor.getStrategy()) {
+				case ENUM:
+					dbo.put(keyToUse, ((Enum) value).name());
+					break;
+				case ID:
 					if (value instanceof String && ObjectId.isValid((String) value)) {
 						try {
-							writeValue(dbo, keyToUse, conversionService.convert(value, ObjectId.class));
+							dbo.put(keyToUse, conversionService.convert(value, ObjectId.class));
 						} catch (ConversionFailedException iae) {
 							LOG.warn("Unable to convert the String " + value + " to an ObjectId");
 							writeValue(dbo, keyToUse, value);
@@ -219,7 +230,11 @@ public class SimpleMongoConverter extends AbstractMongoConverter implements Init
 						// we can't convert this id - use as is
 						writeValue(dbo, keyToUse, value);
 					}
-				} else {
+					break;
+				case PRIMITIVE:
+					dbo.put(keyToUse, value);
+					break;
+				default:
 					writeValue(dbo, keyToUse, value);
 				}
 			} else {
@@ -283,19 +298,28 @@ public class SimpleMongoConverter extends AbstractMongoConverter implements Init
 
 	/**
 	 * Returns whether the {@link ConversionService} has a custom {@link Converter} registered that can convert the given
-	 * object into one of the types supported by MongoDB.
+	 * object into one of the types supported by MongoDB. The result is cached per type until converters are registered.
 	 *
 	 * @param obj
 	 * @return
 	 */
 	private Class<?> getCustomTargetType(Object obj) {
 
-		for (Class<?> mongoType : MONGO_TYPES) {
-			if (conversionService.canConvert(obj.getClass(), mongoType)) {
-				return mongoType;
+		Class<?> type = obj.getClass();
+		Class<?> customTargetType = customTargetTypes.get(type);
+
+		if (customTargetType == null) {
+			customTargetType = NO_CUSTOM_TARGET;
+			for (Class<?> mongoType : MONGO_TYPES) {
+				if (conversionService.canConvert(type, mongoType)) {
+					customTargetType = mongoType;
+					break;
+				}
 			}
+			customTargetTypes.put(type, customTargetType);
 		}
-		return null;
+
+		return customTargetType == NO_CUSTOM_TARGET ? null : customTargetType;
 	}
 
 	/**
@@ -372,14 +396,14 @@ public class SimpleMongoConverter extends AbstractMongoConverter implements Init
 
 		Assert.notNull(clazz, "Mapped class was not specified");
 		S target = BeanUtils.instantiateClass(clazz);
-		MongoBeanWrapper bw = new MongoBeanWrapper(target, conversionService, true);
+		MongoBeanWrapper bw = new MongoBeanWrapper(target, conversionService, true, getDescriptors(clazz));
 
 		for (MongoPropertyDescriptor descriptor : bw.getDescriptors()) {
 			String keyToUse = descriptor.getKeyToMap();
 			if (source.containsField(keyToUse)) {
 				if (descriptor.isMappable()) {
 					Object value = source.get(keyToUse);
-					if (!isSimpleType(value.getClass())) {
+					if (descriptor.getStrategy() != PropertyStrategy.PRIMITIVE && !isSimpleType(value.getClass())) {
 						if (value instanceof Object[]) {
 							bw.setValue(descriptor, readCollection(descriptor, Arrays.asList((Object[]) value))
 									.toArray());
@@ -510,7 +534,26 @@ public class SimpleMongoConverter extends AbstractMongoConverter implements Init
 	 */
 	protected MongoBeanWrapper createWrapper(Object target, boolean fieldAccess) {
 
-		return new MongoBeanWrapper(target, conversionService, fieldAccess);
+		return new MongoBeanWrapper(target, conversionService, fieldAccess, getDescriptors(target.getClass()));
+	}
+
+	/**
+	 * Returns the {@link MongoPropertyDescriptors} for the given type. They are inspected once per type and shared
+	 * afterwards as they are immutable.
+	 *
+	 * @param type
+	 * @return
+	 */
+	private MongoPropertyDescriptors getDescriptors(Class<?> type) {
+
+		MongoPropertyDescriptors result = descriptors.get(type);
+
+		if (result == null) {
+			result = new MongoPropertyDescriptors(type);
+			descriptors.put(type, result);
+		}
+
+		return result;
 	}
 
 	public List<Class<?>> getGenericParameters(Type genericParameterType) {
@@ -40,4 +40,17 @@ public @interface DBRef {
 
   String db() default "";
 
+  /**
+   * Whether the referenced object shall be resolved lazily. If so, a proxy of the property type is injected that
+   * fetches the referenced document on first access. Class based proxies require CGLIB on the classpath and a
+   * non-private no-arg constructor on the referenced type.
+   * <p>
+   * Unlike an eagerly resolved reference, which is set to {@literal null} if the referenced document does not exist, a
+   * lazy reference cannot tell that up front. Accessing the proxy of a reference whose document does not exist throws
+   * a {@link org.springframework.data.mapping.model.MappingException}.
+   *
+   * @return
+   */
+  boolean lazy() default false;
+
 }
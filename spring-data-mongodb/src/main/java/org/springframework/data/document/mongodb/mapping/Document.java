@@ -36,4 +36,12 @@ public @interface Document {
 
   String collection() default "";
 
+  /**
+   * A short alias to be stored as type information instead of the fully qualified class name. Aliases are resolved
+   * against the types known to the mapping context.
+   *
+   * @return
+   */
+  String alias() default "";
+
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.document.mongodb.monitor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedOperation;
+import org.springframework.jmx.export.annotation.ManagedResource;
+
+/**
+ * JMX Metrics for the operations a {@link org.springframework.data.document.mongodb.MongoTemplate} executes, broken
+ * down by collection and operation. Unlike the other monitors these are recorded on the client and thus only reflect
+ * the templates this instance is configured on.
+ *
+ * @see org.springframework.data.document.mongodb.MongoTemplate#setOperationMetrics(CollectionOperationMetrics)
+ */
+@ManagedResource(description = "Collection Operation Metrics")
+public class CollectionOperationMetrics {
+
+  private final ConcurrentMap<String, ConcurrentMap<String, OperationStatistics>> statistics =
+      new ConcurrentHashMap<String, ConcurrentMap<String, OperationStatistics>>();
+
+  /**
+   * Records a single execution of an operation on a collection.
+   *
+   * @param collectionName the name of the collection the operation was executed on
+   * @param operation      the name of the operation
+   * @param nanos          the time the operation took in nanoseconds
+   * @param documents      the number of documents returned
+   * @param failed         whether the operation failed
+   */
+  public void record(String collectionName, String operation, long nanos, long documents, boolean failed) {
+    getStatistics(collectionName, operation).record(nanos, documents, failed);
+  }
+
+  /**
+   * Returns the statistics of the given operation on the given collection, creating them if necessary.
+   *
+   * @param collectionName
+   * @param operation
+   * @return
+   */
+  public OperationStatistics getStatistics(String collectionName, String operation) {
+
+    ConcurrentMap<String, OperationStatistics> operations = statistics.get(collectionName);
+    if (operations == null) {
+      operations = new ConcurrentHashMap<String, OperationStatistics>();
+      ConcurrentMap<String, OperationStatistics> existing = statistics.putIfAbsent(collectionName, operations);
+      operations = existing == null ? operations : existing;
+    }
+
+    OperationStatistics result = operations.get(operation);
+    if (result == null) {
+      result = new OperationStatistics();
+      OperationStatistics existing = operations.putIfAbsent(operation, result);
+      result = existing == null ? result : existing;
+    }
+    return result;
+  }
+
+  @ManagedAttribute(description = "Collection operations recorded, as collection.operation")
+  public String[] getOperations() {
+    List<String> result = new ArrayList<String>();
+    for (Map.Entry<String, ConcurrentMap<String, OperationStatistics>> entry : statistics.entrySet()) {
+      for (String operation : entry.getValue().keySet()) {
+        result.add(entry.getKey() + "." + operation);
+      }
+    }
+    Collections.sort(result);
+    return result.toArray(new String[result.size()]);
+  }
+
+  @ManagedAttribute(description = "Count, errors, documents returned and latency percentiles in microseconds per collection operation")
+  public String[] getSummary() {
+    List<String> result = new ArrayList<String>();
+    for (Map.Entry<String, ConcurrentMap<String, OperationStatistics>> entry : statistics.entrySet()) {
+      for (Map.Entry<String, OperationStatistics> operation : entry.getValue().entrySet()) {
+        OperationStatistics stats = operation.getValue();
+        result.add(String.format("%s.%s count=%d errors=%d documents=%d p50=%.1f p95=%.1f p99=%.1f", entry.getKey(),
+            operation.getKey(), stats.getCount(), stats.getErrorCount(), stats.getDocumentCount(),
+            stats.getLatencyPercentile(50), stats.getLatencyPercentile(95), stats.getLatencyPercentile(99)));
+      }
+    }
+    Collections.sort(result);
+    return result.toArray(new String[result.size()]);
+  }
+
+  @ManagedOperation(description = "Number of executions of an operation on a collection")
+  public long getCount(String collectionName, String operation) {
+    OperationStatistics stats = lookup(collectionName, operation);
+    return stats == null ? 0 : stats.getCount();
+  }
+
+  @ManagedOperation(description = "Number of failed executions of an operation on a collection")
+  public long getErrorCount(String collectionName, String operation) {
+    OperationStatistics stats = lookup(collectionName, operation);
+    return stats == null ? 0 : stats.getErrorCount();
+  }
+
+  @ManagedOperation(description = "Number of documents returned by an operation on a collection")
+  public long getDocumentCount(String collectionName, String operation) {
+    OperationStatistics stats = lookup(collectionName, operation);
+    return stats == null ? 0 : stats.getDocumentCount();
+  }
+
+  @ManagedOperation(description = "Latency percentile (0-100) in microseconds of an operation on a collection")
+  public double getLatencyPercentile(String collectionName, String operation, double percentile) {
+    OperationStatistics stats = lookup(collectionName, operation);
+    return stats == null ? 0 : stats.getLatencyPercentile(percentile);
+  }
+
+  @ManagedOperation(description = "Discards all recorded metrics")
+  public void reset() {
+    statistics.clear();
+  }
+
+  private OperationStatistics lookup(String collectionName, String operation) {
+    Map<String, OperationStatistics> operations = statistics.get(collectionName);
+    return operations == null ? null : operations.get(operation);
+  }
+}
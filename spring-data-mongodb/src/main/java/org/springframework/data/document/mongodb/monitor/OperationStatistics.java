@@ -0,0 +1,141 @@
+/*
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.document.mongodb.monitor;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free statistics of a single operation on a single collection. Latencies are recorded into a histogram of
+ * buckets growing exponentially with eight linear sub-buckets each, so percentiles are accurate to about 12.5% while
+ * recording only takes a couple of atomic increments.
+ */
+public class OperationStatistics {
+
+  private static final int SUB_BUCKET_BITS = 3;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKETS = (64 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+  private final AtomicLong count = new AtomicLong();
+  private final AtomicLong errorCount = new AtomicLong();
+  private final AtomicLong documentCount = new AtomicLong();
+  private final AtomicLong totalNanos = new AtomicLong();
+  private final AtomicLongArray latencies = new AtomicLongArray(BUCKETS);
+
+  /**
+   * Records a single execution of the operation.
+   *
+   * @param nanos     the time the operation took in nanoseconds
+   * @param documents the number of documents returned
+   * @param failed    whether the operation failed
+   */
+  public void record(long nanos, long documents, boolean failed) {
+    count.incrementAndGet();
+    if (failed) {
+      errorCount.incrementAndGet();
+    }
+    if (documents > 0) {
+      documentCount.addAndGet(documents);
+    }
+    long value = nanos < 0 ? 0 : nanos;
+    totalNanos.addAndGet(value);
+    latencies.incrementAndGet(bucketIndex(value));
+  }
+
+  public long getCount() {
+    return count.get();
+  }
+
+  public long getErrorCount() {
+    return errorCount.get();
+  }
+
+  public long getDocumentCount() {
+    return documentCount.get();
+  }
+
+  /**
+   * Returns the mean latency in microseconds.
+   *
+   * @return
+   */
+  public double getMeanLatency() {
+    long executions = count.get();
+    return executions == 0 ? 0 : totalNanos.get() / 1000d / executions;
+  }
+
+  /**
+   * Returns the estimated latency in microseconds below which the given percentage of the recorded executions fall.
+   *
+   * @param percentile the percentile between 0 and 100, e.g. 99 for the 99th percentile
+   * @return
+   */
+  public double getLatencyPercentile(double percentile) {
+
+    long[] snapshot = new long[BUCKETS];
+    long total = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      snapshot[i] = latencies.get(i);
+      total += snapshot[i];
+    }
+
+    if (total == 0) {
+      return 0;
+    }
+
+    long rank = (long) Math.ceil(Math.min(Math.max(percentile, 0), 100) / 100 * total);
+    long seen = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      seen += snapshot[i];
+      if (seen >= rank && snapshot[i] > 0) {
+        return bucketUpperBound(i) / 1000d;
+      }
+    }
+    return bucketUpperBound(BUCKETS - 1) / 1000d;
+  }
+
+  /**
+   * Discards all recorded values.
+   */
+  public void reset() {
+    count.set(0);
+    errorCount.set(0);
+    documentCount.set(0);
+    totalNanos.set(0);
+    for (int i = 0; i < BUCKETS; i++) {
+      latencies.set(i, 0);
+    }
+  }
+
+  static int bucketIndex(long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+    int exponent = 63 - Long.numberOfLeadingZeros(value);
+    int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+    return ((exponent - SUB_BUCKET_BITS + 1) << SUB_BUCKET_BITS) + subBucket;
+  }
+
+  static long bucketUpperBound(int index) {
+    if (index < SUB_BUCKETS) {
+      return index;
+    }
+    int exponent = (index >> SUB_BUCKET_BITS) + SUB_BUCKET_BITS - 1;
+    long subBucket = index & (SUB_BUCKETS - 1);
+    long lowerBound = (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+    return lowerBound + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+  }
+}
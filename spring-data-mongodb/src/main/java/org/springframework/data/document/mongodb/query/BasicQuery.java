@@ -72,6 +72,18 @@ public class BasicQuery extends Query {
     this.sortObject = sortObject;
   }
 
+  @Override
+  public Query skip(int skip) {
+    this.skip = skip;
+    return this;
+  }
+
+  @Override
+  public Query limit(int limit) {
+    this.limit = limit;
+    return this;
+  }
+
   public int getSkip() {
     return skip;
   }
@@ -175,7 +175,6 @@ public class Criteria implements CriteriaDefinition {
    * @return
    */
   public Criteria in(Collection<?> c) {
-	  System.out.println(c.getClass());
     criteria.put("$in", c.toArray());
     return this;
   }
@@ -27,6 +27,11 @@ public class Query {
 	private Sort sort;
 	private int skip;
 	private int limit;
+	private int batchSize;
+	private Object hint;
+	private boolean snapshot;
+	private int maxScan;
+	private boolean slaveOk;
 
 	/**
 	 * Static factory method to create a Query using the provided criteria
@@ -79,6 +84,70 @@ public class Query {
 		return this;
 	}
 
+	/**
+	 * Sets the number of documents the server shall return per batch when reading the query result.
+	 *
+	 * @param batchSize
+	 * @return
+	 */
+	public Query batchSize(int batchSize) {
+		this.batchSize = batchSize;
+		return this;
+	}
+
+	/**
+	 * Forces the server to use the index with the given name.
+	 *
+	 * @param indexName
+	 * @return
+	 */
+	public Query hint(String indexName) {
+		this.hint = indexName;
+		return this;
+	}
+
+	/**
+	 * Forces the server to use the index with the given key pattern, e.g. <code>{ lastname : 1 }</code>.
+	 *
+	 * @param keys
+	 * @return
+	 */
+	public Query hint(DBObject keys) {
+		this.hint = keys;
+		return this;
+	}
+
+	/**
+	 * Makes sure documents are not returned more than once even if they are modified while the query result is read.
+	 *
+	 * @return
+	 */
+	public Query snapshot() {
+		this.snapshot = true;
+		return this;
+	}
+
+	/**
+	 * Limits the number of documents the server scans to answer the query.
+	 *
+	 * @param maxScan
+	 * @return
+	 */
+	public Query maxScan(int maxScan) {
+		this.maxScan = maxScan;
+		return this;
+	}
+
+	/**
+	 * Allows the query to be answered by a secondary.
+	 *
+	 * @return
+	 */
+	public Query slaveOk() {
+		this.slaveOk = true;
+		return this;
+	}
+
 	public Sort sort() {
 		synchronized (this) {
 			if (this.sort == null) {
@@ -119,4 +188,38 @@ public class Query {
 	public int getLimit() {
 		return this.limit;
 	}
+
+	public int getBatchSize() {
+		return this.batchSize;
+	}
+
+	/**
+	 * Returns the index hint, either an index name or a key pattern {@link DBObject}, or {@literal null} if none was set.
+	 *
+	 * @return
+	 */
+	public Object getHint() {
+		return this.hint;
+	}
+
+	public boolean isSnapshot() {
+		return this.snapshot;
+	}
+
+	public int getMaxScan() {
+		return this.maxScan;
+	}
+
+	public boolean isSlaveOk() {
+		return this.slaveOk;
+	}
+
+	/**
+	 * Returns whether any cursor option besides skip, limit and sort was set on the query.
+	 *
+	 * @return
+	 */
+	public boolean hasCursorOptions() {
+		return batchSize > 0 || hint != null || snapshot || maxScan > 0 || slaveOk;
+	}
 }
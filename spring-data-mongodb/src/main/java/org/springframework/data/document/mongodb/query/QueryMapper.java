@@ -16,6 +16,9 @@
 package org.springframework.data.document.mongodb.query;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 import com.mongodb.BasicDBObject;
@@ -71,17 +74,15 @@ public class QueryMapper {
 			Object value = query.get(key);
 			if (key.equals(idKey)) {
 				if (value instanceof DBObject) {
-					if ("$in".equals(key)) {
+					DBObject valueDbo = (DBObject) value;
+					if (valueDbo.containsField("$in")) {
 						List<Object> ids = new ArrayList<Object>();
-						for (Object id : (Object[]) ((DBObject) value).get("$in")) {
-							if (null != converter && !(id instanceof ObjectId)) {
-								ObjectId oid = converter.convertObjectId(id);
-								ids.add(oid);
-							} else {
-								ids.add(id);
-							}
+						for (Object id : toList(valueDbo.get("$in"))) {
+							ids.add(convertId(id));
 						}
-						newDbo.put("$in", ids.toArray(new ObjectId[ids.size()]));
+						DBObject newValue = new BasicDBObject(valueDbo.toMap());
+						newValue.put("$in", ids.toArray());
+						value = newValue;
 					}
 				} else if (null != converter) {
 					try {
@@ -98,4 +99,37 @@ public class QueryMapper {
 		return newDbo;
 	}
 
+	/**
+	 * Converts the given id into an {@link ObjectId} if possible and returns it unchanged otherwise.
+	 *
+	 * @param id
+	 * @return
+	 */
+	private Object convertId(Object id) {
+
+		if (null == converter || id instanceof ObjectId) {
+			return id;
+		}
+
+		try {
+			ObjectId oid = converter.convertObjectId(id);
+			return oid == null ? id : oid;
+		} catch (ConversionFailedException ignored) {
+			return id;
+		}
+	}
+
+	private static List<?> toList(Object values) {
+
+		if (values instanceof Object[]) {
+			return Arrays.asList((Object[]) values);
+		}
+
+		if (values instanceof Collection) {
+			return new ArrayList<Object>((Collection<?>) values);
+		}
+
+		return Collections.singletonList(values);
+	}
+
 }
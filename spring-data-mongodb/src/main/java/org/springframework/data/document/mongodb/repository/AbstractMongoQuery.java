@@ -19,10 +19,7 @@ import static org.springframework.data.document.mongodb.repository.QueryUtils.ap
 
 import java.util.List;
 
-import com.mongodb.DBCollection;
-import com.mongodb.DBCursor;
-import com.mongodb.DBObject;
-import org.springframework.data.document.mongodb.CollectionCallback;
+import org.springframework.data.document.mongodb.DocumentCallback;
 import org.springframework.data.document.mongodb.MongoTemplate;
 import org.springframework.data.document.mongodb.query.Query;
 import org.springframework.data.domain.PageImpl;
@@ -73,7 +70,17 @@ public abstract class AbstractMongoQuery implements RepositoryQuery {
   public Object execute(Object[] parameters) {
 
     ParameterAccessor accessor = new ParametersParameterAccessor(method.getParameters(), parameters);
-    Query query = createQuery(new ConvertingParameterAccessor(template.getConverter(), accessor));
+    Query query = method.applyCursorOptions(createQuery(new ConvertingParameterAccessor(template.getConverter(),
+        accessor)));
+
+    if (method.hasCallbackParameter()) {
+      DocumentCallback<?> callback = (DocumentCallback<?>) parameters[parameters.length - 1];
+      return new CallbackExecution(callback).execute(query);
+    }
+
+    if (method.isStreamQuery()) {
+      return new StreamExecution().execute(query);
+    }
 
     switch (method.getType()) {
       case COLLECTION:
@@ -156,32 +163,73 @@ public abstract class AbstractMongoQuery implements RepositoryQuery {
     Object execute(Query query) {
 
       MongoEntityInformation<?, ?> metadata = method.getEntityInformation();
-      int count = getCollectionCursor(metadata.getCollectionName(), query.getQueryObject()).count();
+      long count = template.count(metadata.getCollectionName(), query, metadata.getJavaType());
 
       List<?> result = template.find(metadata.getCollectionName(), applyPagination(query, pageable),
           metadata.getJavaType());
 
       return new PageImpl(result, pageable, count);
     }
+  }
 
-    private DBCursor getCollectionCursor(String collectionName, final DBObject query) {
+  /**
+   * {@link Execution} to return a single entity. Only the first matching document is read.
+   *
+   * @author Oliver Gierke
+   */
+  class SingleEntityExecution extends Execution {
 
-      return template.execute(collectionName, new CollectionCallback<DBCursor>() {
+    /*
+       * (non-Javadoc)
+       *
+       * @see org.springframework.data.document.mongodb.repository.MongoQuery.Execution #execute(com.mongodb.DBObject)
+       */
+    @Override
+    Object execute(Query query) {
 
-        public DBCursor doInCollection(DBCollection collection) {
+      List<?> result = readCollection(query.limit(1));
+      return result.isEmpty() ? null : result.get(0);
+    }
+  }
+
+  /**
+   * {@link Execution} returning a {@link org.springframework.data.document.mongodb.CloseableIterator} over the results.
+   * Documents are fetched in batches of the size configured through {@link CursorOptions#batchSize()} and converted
+   * one at a time while iterating.
+   */
+  class StreamExecution extends Execution {
 
-          return collection.find(query);
-        }
-      });
+    /*
+       * (non-Javadoc)
+       *
+       * @see org.springframework.data.document.mongodb.repository.MongoQuery.Execution #execute(com.mongodb.DBObject)
+       */
+    @Override
+    Object execute(Query query) {
+
+      MongoEntityInformation<?, ?> metadata = method.getEntityInformation();
+      return template.stream(metadata.getCollectionName(), query, metadata.getJavaType());
     }
   }
 
   /**
-   * {@link Execution} to return a single entity.
-   *
-   * @author Oliver Gierke
+   * {@link Execution} handing each result to the {@link DocumentCallback} given as last parameter instead of returning
+   * the results. Documents are fetched in batches of the size configured through {@link CursorOptions#batchSize()}.
    */
-  class SingleEntityExecution extends Execution {
+  class CallbackExecution extends Execution {
+
+    private final DocumentCallback<?> callback;
+
+    /**
+     * Creates a new {@link CallbackExecution}.
+     *
+     * @param callback
+     */
+    public CallbackExecution(DocumentCallback<?> callback) {
+
+      Assert.notNull(callback, "DocumentCallback must not be null!");
+      this.callback = callback;
+    }
 
     /*
        * (non-Javadoc)
@@ -189,10 +237,12 @@ public abstract class AbstractMongoQuery implements RepositoryQuery {
        * @see org.springframework.data.document.mongodb.repository.MongoQuery.Execution #execute(com.mongodb.DBObject)
        */
     @Override
+    @SuppressWarnings({"rawtypes", "unchecked"})
     Object execute(Query query) {
 
-      List<?> result = readCollection(query);
-      return result.isEmpty() ? null : result.get(0);
+      MongoEntityInformation<?, ?> metadata = method.getEntityInformation();
+      template.find(metadata.getCollectionName(), query, (Class) metadata.getJavaType(), (DocumentCallback) callback);
+      return null;
     }
   }
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.document.mongodb.repository;
+
+import java.lang.annotation.*;
+
+/**
+ * Annotation to tune the cursor used to read the results of a repository query method. Applies to both derived and
+ * {@link Query} annotated queries.
+ *
+ * @see org.springframework.data.document.mongodb.query.Query
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Documented
+public @interface CursorOptions {
+
+  /**
+   * The number of documents to be returned by the server per batch.
+   *
+   * @return
+   */
+  int batchSize() default 0;
+
+  /**
+   * The index to be used by the server, either given by name or as JSON key pattern, e.g.
+   * <code>{ lastname : 1 }</code>.
+   *
+   * @return
+   */
+  String hint() default "";
+
+  /**
+   * Whether to prevent documents from being returned more than once when modified while the result is read.
+   *
+   * @return
+   */
+  boolean snapshot() default false;
+
+  /**
+   * The maximum number of documents the server shall scan to answer the query.
+   *
+   * @return
+   */
+  int maxScan() default 0;
+
+  /**
+   * Whether the query may be answered by a secondary.
+   *
+   * @return
+   */
+  boolean slaveOk() default false;
+}
@@ -16,8 +16,15 @@
 package org.springframework.data.document.mongodb.repository;
 
 import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Iterator;
 
+import com.mongodb.DBObject;
+import com.mongodb.util.JSON;
+import org.springframework.core.GenericTypeResolver;
 import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.data.document.mongodb.DocumentCallback;
 import org.springframework.data.document.mongodb.repository.MongoRepositoryFactoryBean.EntityInformationCreator;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.support.RepositoryMetadata;
@@ -34,6 +41,8 @@ class MongoQueryMethod extends QueryMethod {
 
   private final Method method;
   private final MongoEntityInformation<?, ?> entityInformation;
+  private final CursorOptions cursorOptions;
+  private final Object hint;
 
   /**
    * Creates a new {@link MongoQueryMethod} from the given {@link Method}.
@@ -43,7 +52,29 @@ class MongoQueryMethod extends QueryMethod {
   public MongoQueryMethod(Method method, RepositoryMetadata metadata, EntityInformationCreator entityInformationCreator) {
     super(method, metadata);
     this.method = method;
-    this.entityInformation = entityInformationCreator.getEntityInformation(ClassUtils.getReturnedDomainClass(method));
+    this.entityInformation = entityInformationCreator.getEntityInformation(getDomainClass(method));
+    this.cursorOptions = method.getAnnotation(CursorOptions.class);
+    this.hint = cursorOptions == null ? null : parseHint(cursorOptions.hint());
+  }
+
+  /**
+   * Returns whether the method returns an {@link Iterator}, which is backed by a cursor converting the documents
+   * lazily.
+   * 
+   * @return
+   */
+  boolean isStreamQuery() {
+    return isStreamQuery(method);
+  }
+
+  /**
+   * Returns whether the last parameter of the method is a {@link DocumentCallback} that is handed each result instead of
+   * returning them.
+   * 
+   * @return
+   */
+  boolean hasCallbackParameter() {
+    return hasCallbackParameter(method);
   }
 
   /**
@@ -78,6 +109,47 @@ class MongoQueryMethod extends QueryMethod {
     return StringUtils.hasText(value) ? value : null;
   }
 
+  /**
+   * Applies the cursor options declared in a {@link CursorOptions} annotation on the method to the given query. The
+   * annotation is looked up and its hint parsed once when the {@link MongoQueryMethod} is created.
+   * 
+   * @param query
+   * @return the given query
+   */
+  org.springframework.data.document.mongodb.query.Query applyCursorOptions(
+      org.springframework.data.document.mongodb.query.Query query) {
+
+    CursorOptions options = cursorOptions;
+
+    if (options == null) {
+      return query;
+    }
+
+    if (options.batchSize() > 0) {
+      query.batchSize(options.batchSize());
+    }
+
+    if (hint instanceof DBObject) {
+      query.hint((DBObject) hint);
+    } else if (hint != null) {
+      query.hint((String) hint);
+    }
+
+    if (options.snapshot()) {
+      query.snapshot();
+    }
+
+    if (options.maxScan() > 0) {
+      query.maxScan(options.maxScan());
+    }
+
+    if (options.slaveOk()) {
+      query.slaveOk();
+    }
+
+    return query;
+  }
+
   /* (non-Javadoc)
     * @see org.springframework.data.repository.query.QueryMethod#getEntityMetadata()
     */
@@ -87,6 +159,75 @@ class MongoQueryMethod extends QueryMethod {
     return entityInformation;
   }
 
+  /**
+   * Parses the given hint into the keys of an index if it is given as JSON document.
+   * 
+   * @param hint
+   * @return the keys, the index name or {@literal null} if no hint is given
+   */
+  private static Object parseHint(String hint) {
+
+    String value = hint.trim();
+    if (value.startsWith("{")) {
+      return JSON.parse(value);
+    }
+
+    return StringUtils.hasText(value) ? value : null;
+  }
+
+  private static boolean isStreamQuery(Method method) {
+    return Iterator.class.isAssignableFrom(method.getReturnType());
+  }
+
+  private static boolean hasCallbackParameter(Method method) {
+
+    Class<?>[] types = method.getParameterTypes();
+    return types.length > 0 && DocumentCallback.class.isAssignableFrom(types[types.length - 1]);
+  }
+
+  /**
+   * Returns the domain class the method reads. For streaming methods and methods taking a {@link DocumentCallback} this
+   * is the type argument of the {@link Iterator} returned or the callback respectively.
+   * 
+   * @param method
+   * @return
+   */
+  private static Class<?> getDomainClass(Method method) {
+
+    if (isStreamQuery(method)) {
+      return getTypeArgument(method.getGenericReturnType(), method);
+    }
+
+    if (hasCallbackParameter(method)) {
+      Type[] types = method.getGenericParameterTypes();
+      Type type = types[types.length - 1];
+      if (type instanceof Class) {
+        Class<?> domainClass = GenericTypeResolver.resolveTypeArgument((Class<?>) type, DocumentCallback.class);
+        if (domainClass != null) {
+          return domainClass;
+        }
+      }
+      return getTypeArgument(type, method);
+    }
+
+    return ClassUtils.getReturnedDomainClass(method);
+  }
+
+  private static Class<?> getTypeArgument(Type type, Method method) {
+
+    if (type instanceof ParameterizedType) {
+      Type argument = ((ParameterizedType) type).getActualTypeArguments()[0];
+      if (argument instanceof Class) {
+        return (Class<?>) argument;
+      }
+      if (argument instanceof ParameterizedType) {
+        return (Class<?>) ((ParameterizedType) argument).getRawType();
+      }
+    }
+
+    throw new IllegalStateException(String.format("Could not determine the domain class read by %s!", method));
+  }
+
   /**
    * Returns the {@link Query} annotation that is applied to the method or {@code null} if none available.
    * 
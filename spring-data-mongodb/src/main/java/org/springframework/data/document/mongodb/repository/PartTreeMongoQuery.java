@@ -15,20 +15,43 @@
  */
 package org.springframework.data.document.mongodb.repository;
 
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
 import org.springframework.data.document.mongodb.MongoTemplate;
 import org.springframework.data.document.mongodb.query.Query;
+import org.springframework.data.document.mongodb.repository.ConvertingParameterAccessor.PotentiallyConvertingIterator;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.Part.Type;
 import org.springframework.data.repository.query.parser.PartTree;
 
+import com.mongodb.BasicDBList;
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+
 /**
- * {@link RepositoryQuery} implementation for Mongo.
+ * {@link RepositoryQuery} implementation for Mongo. If all parts of the query method bind their parameters as plain
+ * values the query is created once with placeholders and only the parameter values are bound into a copy of it on each
+ * invocation.
  *
  * @author Oliver Gierke
  */
 public class PartTreeMongoQuery extends AbstractMongoQuery {
 
+  private static final Set<Type> PRECOMPILABLE_TYPES = EnumSet.of(Type.SIMPLE_PROPERTY, Type.GREATER_THAN,
+      Type.LESS_THAN, Type.BETWEEN, Type.IS_NULL, Type.IS_NOT_NULL);
+
   private final PartTree tree;
+  private final DBObject skeleton;
+  private final List<Placeholder> placeholders;
 
   /**
    * Creates a new {@link PartTreeMongoQuery} from the given {@link QueryMethod} and {@link MongoTemplate}.
@@ -40,6 +63,15 @@ public class PartTreeMongoQuery extends AbstractMongoQuery {
 
     super(method, template);
     this.tree = new PartTree(method.getName(), method.getEntityInformation().getJavaType());
+
+    if (isPrecompilable(tree)) {
+      RecordingParameterAccessor recorder = new RecordingParameterAccessor();
+      this.skeleton = new MongoQueryCreator(tree, recorder).createQuery().getQueryObject();
+      this.placeholders = recorder.placeholders;
+    } else {
+      this.skeleton = null;
+      this.placeholders = null;
+    }
   }
 
   /**
@@ -59,7 +91,138 @@ public class PartTreeMongoQuery extends AbstractMongoQuery {
   @Override
   protected Query createQuery(ConvertingParameterAccessor accessor) {
 
-    MongoQueryCreator creator = new MongoQueryCreator(tree, accessor);
-    return creator.createQuery();
+    if (skeleton == null) {
+      MongoQueryCreator creator = new MongoQueryCreator(tree, accessor);
+      return creator.createQuery();
+    }
+
+    // Consume the parameters the same way the query creator did when building the skeleton
+    Object[] values = new Object[placeholders.size()];
+    PotentiallyConvertingIterator parameters = (PotentiallyConvertingIterator) accessor.iterator();
+    for (Placeholder placeholder : placeholders) {
+      values[placeholder.index] = placeholder.converted ? parameters.nextConverted() : parameters.next();
+    }
+
+    return new BoundQuery((DBObject) bind(skeleton, values));
+  }
+
+  private static boolean isPrecompilable(PartTree tree) {
+
+    for (Part part : tree.getParts()) {
+      if (!PRECOMPILABLE_TYPES.contains(part.getType())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns a copy of the given skeleton with all {@link Placeholder}s replaced by the corresponding values.
+   *
+   * @param skeleton
+   * @param values
+   * @return
+   */
+  private static Object bind(Object skeleton, Object[] values) {
+
+    if (skeleton instanceof Placeholder) {
+      return values[((Placeholder) skeleton).index];
+    }
+
+    if (skeleton instanceof List) {
+      BasicDBList result = new BasicDBList();
+      for (Object element : (List<?>) skeleton) {
+        result.add(bind(element, values));
+      }
+      return result;
+    }
+
+    if (skeleton instanceof DBObject) {
+      DBObject dbObject = (DBObject) skeleton;
+      DBObject result = new BasicDBObject();
+      for (String key : dbObject.keySet()) {
+        result.put(key, bind(dbObject.get(key), values));
+      }
+      return result;
+    }
+
+    return skeleton;
+  }
+
+  /**
+   * Stands in for a parameter value while the skeleton is created.
+   */
+  private static class Placeholder {
+
+    private final int index;
+    private final boolean converted;
+
+    public Placeholder(int index, boolean converted) {
+      this.index = index;
+      this.converted = converted;
+    }
+  }
+
+  /**
+   * {@link ParameterAccessor} handing out {@link Placeholder}s and recording them in the order they were requested.
+   */
+  private static class RecordingParameterAccessor implements ParameterAccessor, PotentiallyConvertingIterator {
+
+    private final List<Placeholder> placeholders = new ArrayList<Placeholder>();
+
+    public Iterator<Object> iterator() {
+      return this;
+    }
+
+    public Pageable getPageable() {
+      return null;
+    }
+
+    public Sort getSort() {
+      return null;
+    }
+
+    public Object getBindableValue(int index) {
+      throw new UnsupportedOperationException();
+    }
+
+    public boolean hasNext() {
+      return true;
+    }
+
+    public Object next() {
+      return record(false);
+    }
+
+    public Object nextConverted() {
+      return record(true);
+    }
+
+    public void remove() {
+      throw new UnsupportedOperationException();
+    }
+
+    private Placeholder record(boolean converted) {
+      Placeholder placeholder = new Placeholder(placeholders.size(), converted);
+      placeholders.add(placeholder);
+      return placeholder;
+    }
+  }
+
+  /**
+   * {@link Query} returning a query object bound up front while keeping sorting, paging and cursor options.
+   */
+  private static class BoundQuery extends Query {
+
+    private final DBObject queryObject;
+
+    public BoundQuery(DBObject queryObject) {
+      this.queryObject = queryObject;
+    }
+
+    @Override
+    public DBObject getQueryObject() {
+      return queryObject;
+    }
   }
 }
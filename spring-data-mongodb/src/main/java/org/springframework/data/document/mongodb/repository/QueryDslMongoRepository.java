@@ -22,6 +22,7 @@ import org.apache.commons.collections15.Transformer;
 import org.springframework.data.document.mongodb.MongoOperations;
 import org.springframework.data.document.mongodb.MongoTemplate;
 import org.springframework.data.document.mongodb.convert.MongoConverter;
+import org.springframework.data.document.mongodb.query.BasicQuery;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -144,11 +145,10 @@ public class QueryDslMongoRepository<T, ID extends Serializable> extends
      */
     public Page<T> findAll(Predicate predicate, Pageable pageable) {
 
-        MongodbQuery<T> countQuery = createQueryFor(predicate);
         MongodbQuery<T> query = createQueryFor(predicate);
 
         return new PageImpl<T>(applyPagination(query, pageable).list(),
-                pageable, countQuery.count());
+                pageable, count(predicate));
     }
 
 
@@ -161,7 +161,11 @@ public class QueryDslMongoRepository<T, ID extends Serializable> extends
      */
     public long count(Predicate predicate) {
 
-        return createQueryFor(predicate).count();
+        MongoEntityInformation<T, ID> information = getEntityInformation();
+        BasicQuery query = new BasicQuery((DBObject) serializer.handle(predicate));
+
+        return getMongoOperations().count(information.getCollectionName(), query,
+                information.getJavaType());
     }
 
 
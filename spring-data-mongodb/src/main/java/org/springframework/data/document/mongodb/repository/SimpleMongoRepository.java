@@ -20,7 +20,11 @@ import static org.springframework.data.document.mongodb.query.Criteria.*;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.springframework.data.document.mongodb.MongoOperations;
 import org.springframework.data.document.mongodb.MongoTemplate;
@@ -40,8 +44,11 @@ import org.springframework.util.Assert;
  */
 public class SimpleMongoRepository<T, ID extends Serializable> implements PagingAndSortingRepository<T, ID> {
 
+  private static final int DEFAULT_BATCH_SIZE = 1000;
+
   private final MongoTemplate template;
   private final MongoEntityInformation<T, ID> entityInformation;
+  private int batchSize = DEFAULT_BATCH_SIZE;
 
   /**
    * Creates a ew {@link SimpleMongoRepository} for the given {@link MongoEntityInformation} and {@link MongoTemplate}.
@@ -57,6 +64,18 @@ public class SimpleMongoRepository<T, ID extends Serializable> implements Paging
     this.template = template;
   }
 
+  /**
+   * Configures the maximum number of entities to insert or ids to look up or remove with a single operation when
+   * handling multiple entities at once. Defaults to {@value #DEFAULT_BATCH_SIZE}.
+   *
+   * @param batchSize
+   */
+  public void setBatchSize(int batchSize) {
+
+    Assert.isTrue(batchSize > 0, "Batch size must be greater than zero!");
+    this.batchSize = batchSize;
+  }
+
   /*
    * (non-Javadoc)
    * 
@@ -78,12 +97,25 @@ public class SimpleMongoRepository<T, ID extends Serializable> implements Paging
   public List<T> save(Iterable<? extends T> entities) {
 
     List<T> result = new ArrayList<T>();
+    List<T> newEntities = new ArrayList<T>();
 
     for (T entity : entities) {
-      save(entity);
+      if (entityInformation.isNew(entity)) {
+        newEntities.add(entity);
+        if (newEntities.size() == batchSize) {
+          template.insertList(entityInformation.getCollectionName(), newEntities);
+          newEntities = new ArrayList<T>();
+        }
+      } else {
+        save(entity);
+      }
       result.add(entity);
     }
 
+    if (!newEntities.isEmpty()) {
+      template.insertList(entityInformation.getCollectionName(), newEntities);
+    }
+
     return result;
   }
 
@@ -107,6 +139,10 @@ public class SimpleMongoRepository<T, ID extends Serializable> implements Paging
     return where(entityInformation.getIdAttribute()).is(id);
   }
 
+  private Query getIdsQuery(List<?> ids) {
+    return new Query(where(entityInformation.getIdAttribute()).in(ids));
+  }
+
   /*
    * (non-Javadoc)
    * 
@@ -116,7 +152,7 @@ public class SimpleMongoRepository<T, ID extends Serializable> implements Paging
    */
   public boolean exists(ID id) {
 
-    return findOne(id) != null;
+    return template.exists(entityInformation.getCollectionName(), getIdQuery(id), entityInformation.getJavaType());
   }
 
   /*
@@ -126,7 +162,7 @@ public class SimpleMongoRepository<T, ID extends Serializable> implements Paging
    */
   public long count() {
 
-    return template.getCollection(entityInformation.getCollectionName()).count();
+    return template.count(entityInformation.getCollectionName(), new Query());
   }
 
   /*
@@ -148,8 +184,18 @@ public class SimpleMongoRepository<T, ID extends Serializable> implements Paging
    */
   public void delete(Iterable<? extends T> entities) {
 
+    List<Object> ids = new ArrayList<Object>();
+
     for (T entity : entities) {
-      delete(entity);
+      ids.add(entityInformation.getId(entity));
+      if (ids.size() == batchSize) {
+        template.remove(entityInformation.getCollectionName(), getIdsQuery(ids), entityInformation.getJavaType());
+        ids.clear();
+      }
+    }
+
+    if (!ids.isEmpty()) {
+      template.remove(entityInformation.getCollectionName(), getIdsQuery(ids), entityInformation.getJavaType());
     }
   }
 
@@ -209,17 +255,33 @@ public class SimpleMongoRepository<T, ID extends Serializable> implements Paging
    */
   public List<T> findAll(Iterable<ID> ids) {
 
-    Query query = null;
-
+    Set<ID> uniqueIds = new HashSet<ID>();
+    List<ID> orderedIds = new ArrayList<ID>();
     for (ID id : ids) {
-      if (query == null) {
-        query = getIdQuery(id);
-      } else {
-        query = new Query().or(getIdQuery(id));
+      if (uniqueIds.add(id)) {
+        orderedIds.add(id);
+      }
+    }
+
+    Map<ID, T> entities = new LinkedHashMap<ID, T>();
+    for (int i = 0; i < orderedIds.size(); i += batchSize) {
+      List<ID> chunk = orderedIds.subList(i, Math.min(i + batchSize, orderedIds.size()));
+      for (T entity : findAll(getIdsQuery(chunk))) {
+        entities.put(entityInformation.getId(entity), entity);
+      }
+    }
+
+    // Return the entities in the order of the given ids
+    List<T> result = new ArrayList<T>(entities.size());
+    for (ID id : orderedIds) {
+      T entity = entities.remove(id);
+      if (entity != null) {
+        result.add(entity);
       }
     }
+    result.addAll(entities.values());
 
-    return findAll(query);
+    return result;
   }
 
   private List<T> findAll(Query query) {
@@ -15,18 +15,26 @@
  */
 package org.springframework.data.document.mongodb.repository;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import org.bson.types.ObjectId;
 import org.springframework.data.document.mongodb.MongoTemplate;
 import org.springframework.data.document.mongodb.query.BasicQuery;
 import org.springframework.data.document.mongodb.query.Query;
 
+import com.mongodb.BasicDBList;
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+import com.mongodb.util.JSON;
+
 /**
- * Query to use a plain JSON String to create the {@link Query} to actually execute.
+ * Query to use a plain JSON String to create the {@link Query} to actually execute. The query and field specification
+ * are parsed once into {@link DBObject} templates. Placeholders ({@code ?0}, {@code ?1}, ...) are bound to the
+ * converted parameter values on each invocation, so values can never change the structure of the query.
  *
  * @author Oliver Gierke
  */
@@ -35,8 +43,8 @@ public class StringBasedMongoQuery extends AbstractMongoQuery {
   private static final Pattern PLACEHOLDER = Pattern.compile("\\?(\\d+)");
   private static final Log LOG = LogFactory.getLog(StringBasedMongoQuery.class);
 
-  private final String query;
-  private final String fieldSpec;
+  private final DBObject query;
+  private final DBObject fieldSpec;
 
   /**
    * Creates a new {@link StringBasedMongoQuery}.
@@ -46,8 +54,11 @@ public class StringBasedMongoQuery extends AbstractMongoQuery {
    */
   public StringBasedMongoQuery(MongoQueryMethod method, MongoTemplate template) {
     super(method, template);
-    this.query = method.getAnnotatedQuery();
-    this.fieldSpec = method.getFieldSpecification();
+
+    String fieldSpec = method.getFieldSpecification();
+
+    this.query = parse(method.getAnnotatedQuery());
+    this.fieldSpec = fieldSpec == null ? null : parse(fieldSpec);
   }
 
   /*
@@ -60,46 +71,191 @@ public class StringBasedMongoQuery extends AbstractMongoQuery {
   @Override
   protected Query createQuery(ConvertingParameterAccessor accessor) {
 
-    String queryString = replacePlaceholders(query, accessor);
+    DBObject queryObject = (DBObject) bind(query, accessor);
 
     Query query = null;
 
     if (fieldSpec != null) {
-      String fieldString = replacePlaceholders(fieldSpec, accessor);
-      query = new BasicQuery(queryString, fieldString);
+      query = new BasicQuery(queryObject, (DBObject) bind(fieldSpec, accessor));
     } else {
-      query = new BasicQuery(queryString);
+      query = new BasicQuery(queryObject);
     }
 
     if (LOG.isDebugEnabled()) {
-      LOG.debug(String.format("Created query {}", query.getQueryObject()));
+      LOG.debug(String.format("Created query %s", query.getQueryObject()));
     }
 
     return query;
   }
 
-  private String replacePlaceholders(String input, ConvertingParameterAccessor accessor) {
+  /**
+   * Parses the given JSON into a {@link DBObject} template. Placeholders outside of string literals are quoted before
+   * parsing. String values consisting of a placeholder only become a {@link ValueSlot}, other strings containing
+   * placeholders a {@link StringSlot}.
+   *
+   * @param json
+   * @return
+   */
+  private static DBObject parse(String json) {
+    return (DBObject) compile(JSON.parse(quotePlaceholders(json)));
+  }
+
+  private static String quotePlaceholders(String json) {
+
+    StringBuilder builder = new StringBuilder(json.length() + 8);
+    char quote = 0;
+
+    for (int i = 0; i < json.length(); i++) {
+
+      char c = json.charAt(i);
+
+      if (quote != 0) {
+        builder.append(c);
+        if (c == '\\' && i + 1 < json.length()) {
+          builder.append(json.charAt(++i));
+        } else if (c == quote) {
+          quote = 0;
+        }
+        continue;
+      }
+
+      if (c == '\'' || c == '"') {
+        quote = c;
+        builder.append(c);
+        continue;
+      }
+
+      if (c == '?' && i + 1 < json.length() && Character.isDigit(json.charAt(i + 1))) {
+        int end = i + 1;
+        while (end < json.length() && Character.isDigit(json.charAt(end))) {
+          end++;
+        }
+        builder.append('"').append(json, i, end).append('"');
+        i = end - 1;
+        continue;
+      }
+
+      builder.append(c);
+    }
+
+    return builder.toString();
+  }
+
+  private static Object compile(Object value) {
 
-    Matcher matcher = PLACEHOLDER.matcher(input);
-    String result = input;
+    if (value instanceof String) {
 
-    while (matcher.find()) {
-      String group = matcher.group();
-      int index = Integer.parseInt(matcher.group(1));
-      result = input.replace(group, getParameterWithIndex(accessor, index));
+      String string = (String) value;
+      Matcher matcher = PLACEHOLDER.matcher(string);
+
+      if (!matcher.find()) {
+        return string;
+      }
+
+      if (matcher.start() == 0 && matcher.end() == string.length()) {
+        return new ValueSlot(Integer.parseInt(matcher.group(1)));
+      }
+
+      return new StringSlot(string);
     }
 
-    return result;
+    if (value instanceof BasicDBList) {
+      BasicDBList list = (BasicDBList) value;
+      for (int i = 0; i < list.size(); i++) {
+        list.set(i, compile(list.get(i)));
+      }
+      return list;
+    }
+
+    if (value instanceof DBObject) {
+      DBObject dbObject = (DBObject) value;
+      for (String key : new ArrayList<String>(dbObject.keySet())) {
+        dbObject.put(key, compile(dbObject.get(key)));
+      }
+      return dbObject;
+    }
+
+    return value;
   }
 
-  private String getParameterWithIndex(ConvertingParameterAccessor accessor, int index) {
+  /**
+   * Returns a copy of the given template with all slots replaced by the corresponding parameter values.
+   *
+   * @param template
+   * @param accessor
+   * @return
+   */
+  private static Object bind(Object template, ConvertingParameterAccessor accessor) {
+
+    if (template instanceof ValueSlot) {
+      return getParameterWithIndex(accessor, ((ValueSlot) template).index);
+    }
+
+    if (template instanceof StringSlot) {
+      return ((StringSlot) template).bind(accessor);
+    }
+
+    if (template instanceof BasicDBList) {
+      List<?> list = (List<?>) template;
+      BasicDBList result = new BasicDBList();
+      for (Object element : list) {
+        result.add(bind(element, accessor));
+      }
+      return result;
+    }
+
+    if (template instanceof DBObject) {
+      DBObject dbObject = (DBObject) template;
+      DBObject result = new BasicDBObject();
+      for (String key : dbObject.keySet()) {
+        result.put(key, bind(dbObject.get(key), accessor));
+      }
+      return result;
+    }
+
+    return template;
+  }
+
+  private static Object getParameterWithIndex(ConvertingParameterAccessor accessor, int index) {
+
     Object parameter = accessor.getBindableValue(index);
-    if (parameter instanceof String || parameter.getClass().isEnum()) {
-      return String.format("\"%s\"", parameter);
-    } else if (parameter instanceof ObjectId) {
-      return String.format("{ '$oid' : '%s' }", parameter);
+    return parameter instanceof Enum ? ((Enum<?>) parameter).name() : parameter;
+  }
+
+  /**
+   * A value consisting of a single placeholder only, replaced by the parameter value itself.
+   */
+  private static class ValueSlot {
+
+    private final int index;
+
+    public ValueSlot(int index) {
+      this.index = index;
+    }
+  }
+
+  /**
+   * A string value containing placeholders, replaced by the string representation of the parameter values.
+   */
+  private static class StringSlot {
+
+    private final String template;
+
+    public StringSlot(String template) {
+      this.template = template;
     }
 
-    return parameter.toString();
+    public String bind(ConvertingParameterAccessor accessor) {
+
+      Matcher matcher = PLACEHOLDER.matcher(template);
+      StringBuffer buffer = new StringBuffer();
+
+      while (matcher.find()) {
+        Object value = getParameterWithIndex(accessor, Integer.parseInt(matcher.group(1)));
+        matcher.appendReplacement(buffer, Matcher.quoteReplacement(String.valueOf(value)));
+      }
+
+      return matcher.appendTail(buffer).toString();
+    }
   }
 }
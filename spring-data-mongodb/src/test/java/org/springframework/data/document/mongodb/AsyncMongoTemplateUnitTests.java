@@ -0,0 +1,132 @@
+/*
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.document.mongodb;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import com.mongodb.MongoException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.data.document.mongodb.query.Query;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Unit tests for {@link AsyncMongoTemplate}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class AsyncMongoTemplateUnitTests {
+
+  @Mock
+  MongoOperations operations;
+
+  AsyncMongoTemplate template;
+
+  @Before
+  public void setUp() {
+    template = new AsyncMongoTemplate(operations);
+  }
+
+  @After
+  public void tearDown() {
+    template.destroy();
+  }
+
+  @Test
+  public void returnsResultOfDelegateThroughFuture() throws Exception {
+
+    Query query = new Query();
+    List<Person> persons = Arrays.asList(new Person("Oliver"));
+    when(operations.find("collection", query, Person.class)).thenReturn(persons);
+
+    Future<List<Person>> result = template.find("collection", query, Person.class);
+
+    assertThat(result.get(1, TimeUnit.SECONDS), is(persons));
+  }
+
+  @Test
+  public void translatesExceptionsOfDelegate() throws Exception {
+
+    Query query = new Query();
+    when(operations.findOne("collection", query, Person.class)).thenThrow(new MongoException("Error!"));
+
+    try {
+      template.findOne("collection", query, Person.class).get(1, TimeUnit.SECONDS);
+      fail("Expected ExecutionException!");
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof DataAccessException);
+    }
+  }
+
+  @Test
+  public void limitsOperationsInFlightPerCollection() throws Exception {
+
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    final Query query = new Query();
+
+    when(operations.findOne("collection", query, Person.class)).thenAnswer(new Answer<Person>() {
+      public Person answer(InvocationOnMock invocation) throws Throwable {
+        started.countDown();
+        release.await();
+        return null;
+      }
+    });
+
+    template.setMaxInFlightPerCollection(1);
+    Future<Person> running = template.findOne("collection", query, Person.class);
+    assertTrue(started.await(1, TimeUnit.SECONDS));
+
+    try {
+      template.findOne("collection", query, Person.class).get(1, TimeUnit.SECONDS);
+      fail("Expected ExecutionException!");
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof TransientDataAccessResourceException);
+    }
+    verify(operations, times(1)).findOne("collection", query, Person.class);
+
+    release.countDown();
+    running.get(1, TimeUnit.SECONDS);
+    template.find("collection", query, Person.class).get(1, TimeUnit.SECONDS);
+  }
+
+  @Test
+  public void sizesDefaultPoolToOperationsInFlight() {
+
+    template.setMaxInFlightPerCollection(5);
+
+    ThreadPoolExecutor executor = (ThreadPoolExecutor) ReflectionTestUtils.getField(template, "executor");
+    assertThat(executor.getCorePoolSize(), is(5));
+    assertThat(executor.getMaximumPoolSize(), is(5));
+  }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.document.mongodb;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+import org.bson.BSON;
+import org.bson.types.ObjectId;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.document.mongodb.convert.AbstractMongoConverter;
+import org.springframework.data.document.mongodb.convert.MongoConverter;
+import org.springframework.data.document.mongodb.mapping.MongoPersistentEntity;
+import org.springframework.data.document.mongodb.mapping.MongoPersistentProperty;
+import org.springframework.data.document.mongodb.mapping.event.AfterSaveEvent;
+import org.springframework.data.mapping.model.MappingContext;
+
+/**
+ * Unit tests for {@link BulkWriter}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class BulkWriterUnitTests {
+
+  @Mock
+  MongoTemplate template;
+
+  BulkWriter writer;
+
+  @Before
+  public void setUp() {
+
+    MongoConverter converter = new AbstractMongoConverter() {
+
+      public void write(Object t, DBObject dbo) {
+        Person person = (Person) t;
+        if (person.getId() != null) {
+          dbo.put("_id", person.getId());
+        }
+        dbo.put("firstName", person.getFirstName());
+      }
+
+      public <S extends Object> S read(Class<S> clazz, DBObject dbo) {
+        return null;
+      }
+
+      public <T> T convertObjectId(ObjectId id, Class<T> targetType) {
+        return null;
+      }
+
+      public ObjectId convertObjectId(Object id) {
+        return null;
+      }
+
+      public MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> getMappingContext() {
+        return null;
+      }
+    };
+
+    when(template.getConverter()).thenReturn(converter);
+    writer = new BulkWriter(template);
+  }
+
+  @Test
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public void writesInsertsAsSingleBatchOnceMaxBatchSizeIsReached() {
+
+    writer.setMaxBatchSize(2);
+
+    writer.insert("collection", new Person("Oliver"));
+    verify(template, never()).insertDBObjectList(anyString(), anyList());
+
+    writer.insert("collection", new Person("Thomas"));
+
+    ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+    verify(template, times(1)).insertDBObjectList(eq("collection"), captor.capture());
+    assertThat(captor.getValue().size(), is(2));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void buffersWritesUntilFlushed() {
+
+    writer.insert("collection", new Person("Oliver"));
+    writer.insert("other", new Person("Thomas"));
+    verify(template, never()).insertDBObjectList(anyString(), anyList());
+
+    assertThat(writer.flush().isEmpty(), is(true));
+    verify(template, times(1)).insertDBObjectList(eq("collection"), anyList());
+    verify(template, times(1)).insertDBObjectList(eq("other"), anyList());
+
+    writer.flush();
+    verify(template, times(1)).insertDBObjectList(eq("collection"), anyList());
+  }
+
+  @Test
+  public void reportsFailedSavesOnFlush() {
+
+    Person person = new Person(new ObjectId(), "Oliver");
+    when(template.saveDBObject(eq("collection"), any(DBObject.class))).thenThrow(
+        new DataIntegrityViolationException("Error!"));
+
+    writer.save("collection", person);
+    List<BulkWriteFailure> failures = writer.flush();
+
+    assertThat(failures.size(), is(1));
+    assertThat(failures.get(0).getSubject(), is((Object) person));
+    assertThat(failures.get(0).getCollectionName(), is("collection"));
+    assertThat(writer.flush().isEmpty(), is(true));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void reportsDuplicateOnSecondaryUniqueIndexAfterFailedBatch() {
+
+    final ObjectId firstId = new ObjectId();
+    final ObjectId secondId = new ObjectId();
+
+    doAnswer(new Answer<Object>() {
+      public Object answer(InvocationOnMock invocation) {
+        List<DBObject> dbDocs = (List<DBObject>) invocation.getArguments()[1];
+        dbDocs.get(0).put("_id", firstId);
+        dbDocs.get(1).put("_id", secondId);
+        throw new DuplicateKeyException("E11000 duplicate key error index: collection.$firstName_1");
+      }
+    }).when(template).insertDBObjectList(eq("collection"), anyList());
+    when(template.insertDBObject(eq("collection"), any(DBObject.class))).thenThrow(
+        new DuplicateKeyException("E11000 duplicate key error index"));
+    when(template.containsDBObject("collection", firstId)).thenReturn(true);
+    when(template.containsDBObject("collection", secondId)).thenReturn(false);
+
+    Person written = new Person("Oliver");
+    Person duplicate = new Person("Oliver");
+    writer.insert("collection", written);
+    writer.insert("collection", duplicate);
+
+    List<BulkWriteFailure> failures = writer.flush();
+
+    assertThat(failures.size(), is(1));
+    assertThat(failures.get(0).getSubject(), is((Object) duplicate));
+    assertTrue(failures.get(0).getCause() instanceof DuplicateKeyException);
+    verify(template, times(1)).maybeEmitEvent(isA(AfterSaveEvent.class));
+  }
+
+  @Test
+  public void estimatesEncodedDocumentSize() {
+
+    DBObject nested = new BasicDBObject("street", "Kurf\u00fcrstendamm \u2603").append("number", 42L);
+
+    DBObject dbDoc = new BasicDBObject("_id", new ObjectId());
+    dbDoc.put("name", "Oliver");
+    dbDoc.put("age", 34);
+    dbDoc.put("weight", 80.5);
+    dbDoc.put("active", true);
+    dbDoc.put("birthday", new Date());
+    dbDoc.put("nothing", null);
+    dbDoc.put("address", nested);
+    dbDoc.put("tags", Arrays.asList("a", "b", 3));
+    dbDoc.put("scores", new int[] { 1, 2, 3 });
+    dbDoc.put("data", new byte[] { 1, 2 });
+    dbDoc.put("pattern", Pattern.compile("^Ol"));
+
+    assertThat(BulkWriter.estimateSize(dbDoc), is(BSON.encode(dbDoc).length));
+  }
+
+  @Test
+  public void accountsForGeneratedIdWhenEstimatingSize() {
+
+    DBObject dbDoc = new BasicDBObject("name", "Oliver");
+    int size = BulkWriter.estimateSize(dbDoc);
+
+    dbDoc.put("_id", new ObjectId());
+    assertThat(size, is(BSON.encode(dbDoc).length));
+  }
+}
@@ -34,6 +34,8 @@ import org.springframework.data.document.mongodb.convert.AbstractMongoConverter;
 import org.springframework.data.document.mongodb.convert.MongoConverter;
 import org.springframework.data.document.mongodb.mapping.MongoPersistentEntity;
 import org.springframework.data.document.mongodb.mapping.MongoPersistentProperty;
+import org.springframework.data.document.mongodb.query.Query;
+import org.springframework.data.document.mongodb.query.Update;
 import org.springframework.data.mapping.model.MappingContext;
 
 /**
@@ -294,6 +296,93 @@ public abstract class MongoOperationsUnitTests {
 		}.assertDataAccessException();
 	}
 
+	@Test
+	public void convertsExceptionForStream() {
+		new Execution() {
+			@Override
+			public void doWith(MongoOperations operations) {
+				operations.stream("collection", new Query(), Object.class);
+			}
+		}.assertDataAccessException();
+	}
+
+	@Test
+	public void convertsExceptionForFindWithTargetType() {
+		new Execution() {
+			@Override
+			public void doWith(MongoOperations operations) {
+				operations.find("collection", new Query(), Person.class, Object.class);
+			}
+		}.assertDataAccessException();
+	}
+
+	@Test
+	public void convertsExceptionForFindWithDocumentCallback() {
+		new Execution() {
+			@Override
+			public void doWith(MongoOperations operations) {
+				operations.find("collection", new Query(), Object.class, new DocumentCallback<Object>() {
+					public void doWithDocument(Object document) {
+					}
+				});
+			}
+		}.assertDataAccessException();
+	}
+
+	@Test
+	public void convertsExceptionForParallelScan() {
+		new Execution() {
+			@Override
+			public void doWith(MongoOperations operations) {
+				operations.parallelScan("collection", Object.class, new Query(), 4, new DocumentCallback<Object>() {
+					public void doWithDocument(Object document) {
+					}
+				});
+			}
+		}.assertDataAccessException();
+	}
+
+	@Test
+	public void convertsExceptionForCount() {
+		new Execution() {
+			@Override
+			public void doWith(MongoOperations operations) {
+				operations.count("collection", new Query());
+			}
+		}.assertDataAccessException();
+	}
+
+	@Test
+	public void convertsExceptionForExists() {
+		new Execution() {
+			@Override
+			public void doWith(MongoOperations operations) {
+				operations.exists("collection", new Query(), Object.class);
+			}
+		}.assertDataAccessException();
+	}
+
+	@Test
+	public void convertsExceptionForFindAndModify() {
+		new Execution() {
+			@Override
+			public void doWith(MongoOperations operations) {
+				operations.findAndModify("collection", new Query(), new Update().inc("counter", 1),
+						FindAndModifyOptions.options().returnNew(true), Person.class);
+			}
+		}.assertDataAccessException();
+	}
+
+	@Test
+	public void convertsExceptionForUpsert() {
+		new Execution() {
+			@Override
+			public void doWith(MongoOperations operations) {
+				operations.upsert("collection", new Query(), new Update().set("firstName", "Oliver"));
+			}
+		}.assertDataAccessException();
+	}
+
 	private abstract class Execution {
 
 		public void assertDataAccessException() {
@@ -15,19 +15,46 @@
  */
 package org.springframework.data.document.mongodb;
 
-import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.*;
+import static org.springframework.data.document.mongodb.query.Criteria.*;
 import static org.mockito.Mockito.*;
 
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.concurrent.Executor;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.Bytes;
 import com.mongodb.DB;
+import com.mongodb.DBCollection;
+import com.mongodb.DBCursor;
+import com.mongodb.DBObject;
 import com.mongodb.Mongo;
 import com.mongodb.MongoException;
+import org.bson.types.ObjectId;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.document.mongodb.convert.MappingMongoConverter;
 import org.springframework.data.document.mongodb.convert.SimpleMongoConverter;
+import org.springframework.data.document.mongodb.mapping.DBRef;
+import org.springframework.data.document.mongodb.mapping.MongoMappingContext;
+import org.springframework.data.document.mongodb.mapping.event.AfterConvertEvent;
+import org.springframework.data.document.mongodb.mapping.event.AfterLoadEvent;
+import org.springframework.data.document.mongodb.mapping.event.BeforeConvertEvent;
+import org.springframework.data.document.mongodb.mapping.event.BeforeSaveEvent;
+import org.springframework.data.document.mongodb.monitor.CollectionOperationMetrics;
+import org.springframework.data.document.mongodb.query.Order;
+import org.springframework.data.document.mongodb.query.Query;
+import org.springframework.data.document.mongodb.query.Update;
 import org.springframework.test.util.ReflectionTestUtils;
 
 /**
@@ -46,6 +73,12 @@ public class MongoTemplateUnitTests extends MongoOperationsUnitTests {
   @Mock
   DB db;
 
+  @Mock
+  DBCollection collection;
+
+  @Mock
+  DBCursor cursor;
+
   @Before
   public void setUp() {
     this.template = new MongoTemplate(mongo, "database");
@@ -75,6 +108,347 @@ public class MongoTemplateUnitTests extends MongoOperationsUnitTests {
     assertTrue(ReflectionTestUtils.getField(template, "mongoConverter") instanceof SimpleMongoConverter);
   }
 
+  @Test
+  public void streamClosesCursorOnceExhausted() throws Exception {
+    MongoTemplate template = mockOutGetDb();
+    when(db.getCollection("collection")).thenReturn(collection);
+    when(collection.find(any(DBObject.class))).thenReturn(cursor);
+    when(cursor.hasNext()).thenReturn(false);
+
+    CloseableIterator<Person> iterator = template.stream("collection", new Query(), Person.class);
+
+    assertFalse(iterator.hasNext());
+    verify(cursor).close();
+  }
+
+  @Test
+  public void streamClosesCursorIfReadingFails() throws Exception {
+    MongoTemplate template = mockOutGetDb();
+    when(db.getCollection("collection")).thenReturn(collection);
+    when(collection.find(any(DBObject.class))).thenReturn(cursor);
+    when(cursor.hasNext()).thenThrow(new MongoException("Exception!"));
+
+    CloseableIterator<Person> iterator = template.stream("collection", new Query(), Person.class);
+
+    try {
+      iterator.hasNext();
+      fail("Expected DataAccessException!");
+    } catch (DataAccessException e) {
+      verify(cursor).close();
+    }
+  }
+
+  @Test
+  public void closingStreamEarlyClosesCursor() throws Exception {
+    MongoTemplate template = mockOutGetDb();
+    when(db.getCollection("collection")).thenReturn(collection);
+    when(collection.find(any(DBObject.class))).thenReturn(cursor);
+
+    CloseableIterator<Person> iterator = template.stream("collection", new Query(), Person.class);
+    iterator.close();
+    iterator.close();
+
+    verify(cursor, times(1)).close();
+    verify(cursor, never()).next();
+  }
+
+  @Test
+  public void existsOnlyFetchesIdOfSingleDocument() throws Exception {
+    MongoTemplate template = mockOutGetDb();
+    when(db.getCollection("collection")).thenReturn(collection);
+    when(collection.find(any(DBObject.class), any(DBObject.class))).thenReturn(cursor);
+    when(cursor.limit(1)).thenReturn(cursor);
+    when(cursor.hasNext()).thenReturn(true);
+
+    assertTrue(template.exists("collection", new Query(), Person.class));
+    verify(collection).find(any(DBObject.class), eq((DBObject) new BasicDBObject("_id", 1)));
+    verify(cursor).close();
+    verify(cursor, never()).next();
+  }
+
+  @Test
+  public void findAndModifyPassesOptionsToDriver() throws Exception {
+    MongoTemplate template = mockOutGetDb();
+    when(db.getCollection("collection")).thenReturn(collection);
+
+    template.findAndModify("collection", new Query(), new Update().inc("counter", 1),
+        FindAndModifyOptions.options().returnNew(true).upsert(true), Person.class);
+    verify(collection).findAndModify(any(DBObject.class), any(DBObject.class), any(DBObject.class), eq(false),
+        eq((DBObject) new BasicDBObject("$inc", new BasicDBObject("counter", 1))), eq(true), eq(true));
+  }
+
+  @Test
+  public void upsertHonorsUpsertFlagWithoutWriteConcern() throws Exception {
+    MongoTemplate template = mockOutGetDb();
+    when(db.getCollection("collection")).thenReturn(collection);
+
+    template.upsert("collection", new Query(), new Update().set("firstName", "Oliver"));
+    verify(collection).update(any(DBObject.class), any(DBObject.class), eq(true), eq(false));
+  }
+
+  @Test(expected = InvalidDataAccessApiUsageException.class)
+  public void parallelScanRejectsQueryWithLimit() throws Exception {
+    template.parallelScan("collection", Person.class, new Query().limit(10), 4, new DocumentCallback<Person>() {
+      public void doWithDocument(Person document) {
+      }
+    });
+  }
+
+  @Test(expected = InvalidDataAccessApiUsageException.class)
+  public void parallelScanRejectsSortedQuery() throws Exception {
+    Query query = new Query();
+    query.sort().on("firstName", Order.ASCENDING);
+    template.parallelScan("collection", Person.class, query, 4, new DocumentCallback<Person>() {
+      public void doWithDocument(Person document) {
+      }
+    });
+  }
+
+  @Test
+  public void parallelScanReadsPartitionsWithConfiguredExecutor() throws Exception {
+    MongoTemplate template = mockOutGetDb();
+    Executor executor = mock(Executor.class);
+    doAnswer(new Answer<Object>() {
+      public Object answer(InvocationOnMock invocation) {
+        ((Runnable) invocation.getArguments()[0]).run();
+        return null;
+      }
+    }).when(executor).execute(any(Runnable.class));
+    template.setParallelScanExecutor(executor);
+
+    when(db.getCollection("collection")).thenReturn(collection);
+    DBCursor lowerBound = mock(DBCursor.class);
+    DBCursor upperBound = mock(DBCursor.class);
+    when(collection.find(any(DBObject.class), any(DBObject.class))).thenReturn(lowerBound, upperBound);
+    when(lowerBound.sort(any(DBObject.class))).thenReturn(lowerBound);
+    when(lowerBound.limit(1)).thenReturn(lowerBound);
+    when(lowerBound.hasNext()).thenReturn(true);
+    when(lowerBound.next()).thenReturn(new BasicDBObject("_id", new ObjectId(1000, 0, 0)));
+    when(upperBound.sort(any(DBObject.class))).thenReturn(upperBound);
+    when(upperBound.limit(1)).thenReturn(upperBound);
+    when(upperBound.hasNext()).thenReturn(true);
+    when(upperBound.next()).thenReturn(new BasicDBObject("_id", new ObjectId(2000, 0, 0)));
+    when(collection.find(any(DBObject.class))).thenReturn(cursor);
+    when(cursor.hasNext()).thenReturn(false);
+
+    template.parallelScan("collection", Person.class, new Query(), 4, new DocumentCallback<Person>() {
+      public void doWithDocument(Person document) {
+        fail("No documents expected!");
+      }
+    });
+
+    verify(executor, times(4)).execute(any(Runnable.class));
+    verify(collection, times(4)).find(any(DBObject.class));
+  }
+
+  @Test
+  public void parallelScanFallsBackToSingleCursorIfIdRangeCannotBeSplit() throws Exception {
+    MongoTemplate template = mockOutGetDb();
+    when(db.getCollection("collection")).thenReturn(collection);
+    when(collection.find(any(DBObject.class), any(DBObject.class))).thenReturn(cursor);
+    when(collection.find(any(DBObject.class))).thenReturn(cursor);
+    when(cursor.sort(any(DBObject.class))).thenReturn(cursor);
+    when(cursor.limit(1)).thenReturn(cursor);
+    when(cursor.hasNext()).thenReturn(false);
+
+    template.parallelScan("collection", Person.class, new Query(), 4, new DocumentCallback<Person>() {
+      public void doWithDocument(Person document) {
+        fail("No documents expected!");
+      }
+    });
+    verify(cursor).sort(new BasicDBObject("_id", 1));
+    verify(cursor).sort(new BasicDBObject("_id", -1));
+    verify(collection, times(1)).find(any(DBObject.class));
+  }
+
+  @Test
+  public void findProjectsFieldsOfTargetTypeIfSubsetOfEntity() throws Exception {
+    MongoTemplate template = mockOutGetDb();
+    when(db.getCollection("collection")).thenReturn(collection);
+    when(collection.find(any(DBObject.class), any(DBObject.class))).thenReturn(cursor);
+
+    DBObject projection = new BasicDBObject("_id", 1);
+    projection.put("firstName", 1);
+
+    template.find("collection", new Query(), Person.class, PersonSummary.class);
+    template.find("collection", new Query(), Person.class, PersonSummary.class);
+    verify(collection, times(2)).find(any(DBObject.class), eq(projection));
+  }
+
+  @Test
+  public void findDoesNotProjectFieldsOfTargetTypeIfNoSubsetOfEntity() throws Exception {
+    MongoTemplate template = mockOutGetDb();
+    when(db.getCollection("collection")).thenReturn(collection);
+    when(collection.find(any(DBObject.class))).thenReturn(cursor);
+
+    template.find("collection", new Query(), PersonSummary.class, Person.class);
+    verify(collection).find(any(DBObject.class));
+  }
+
+  @Test
+  public void findOnlyReadsMappedFieldsIfConfigured() throws Exception {
+    MongoTemplate template = mockOutGetDb();
+    template.setReadMappedFieldsOnly(true);
+    when(db.getCollection("collection")).thenReturn(collection);
+    when(collection.find(any(DBObject.class), any(DBObject.class))).thenReturn(cursor);
+
+    DBObject projection = new BasicDBObject("_id", 1);
+    projection.put("firstName", 1);
+    projection.put("_class", 1);
+
+    template.find("collection", new Query(), PersonSummary.class);
+    template.find("collection", new Query(), PersonSummary.class);
+    verify(collection, times(2)).find(any(DBObject.class), eq(projection));
+  }
+
+  @Test
+  public void readsFieldsOfSubtypesRegisteredAfterFirstRead() throws Exception {
+    MongoTemplate template = mockOutGetDb();
+    template.setReadMappedFieldsOnly(true);
+    when(db.getCollection("collection")).thenReturn(collection);
+    when(collection.find(any(DBObject.class), any(DBObject.class))).thenReturn(cursor);
+
+    DBObject projection = new BasicDBObject("_id", 1);
+    projection.put("firstName", 1);
+    projection.put("_class", 1);
+
+    template.find("collection", new Query(), PersonSummary.class);
+    verify(collection).find(any(DBObject.class), eq(projection));
+
+    template.getConverter().getMappingContext().getPersistentEntity(PersonSummaryWithAge.class);
+    projection.put("age", 1);
+
+    template.find("collection", new Query(), PersonSummary.class);
+    verify(collection).find(any(DBObject.class), eq(projection));
+  }
+
+  @Test
+  public void recordsOperationMetricsPerCollection() throws Exception {
+    MongoTemplate template = mockOutGetDb();
+    CollectionOperationMetrics metrics = new CollectionOperationMetrics();
+    template.setOperationMetrics(metrics);
+    when(db.getCollection("collection")).thenReturn(collection);
+    when(collection.count(any(DBObject.class))).thenReturn(5L).thenThrow(new MongoException("Error!"));
+    when(collection.find(any(DBObject.class))).thenReturn(cursor);
+    when(cursor.hasNext()).thenReturn(true, true, false);
+    when(cursor.next()).thenReturn(new BasicDBObject(), new BasicDBObject());
+
+    template.count("collection", new Query());
+    try {
+      template.count("collection", new Query());
+      fail("Expected DataAccessException!");
+    } catch (DataAccessException e) {
+    }
+    template.find("collection", new Query(), Person.class);
+
+    assertEquals(2, metrics.getCount("collection", "count"));
+    assertEquals(1, metrics.getErrorCount("collection", "count"));
+    assertEquals(1, metrics.getCount("collection", "find"));
+    assertEquals(2, metrics.getDocumentCount("collection", "find"));
+  }
+
+  @Test
+  public void appliesCursorOptionsOfQuery() throws Exception {
+    MongoTemplate template = mockOutGetDb();
+    when(db.getCollection("collection")).thenReturn(collection);
+    when(collection.find(any(DBObject.class))).thenReturn(cursor);
+    when(cursor.batchSize(anyInt())).thenReturn(cursor);
+    when(cursor.hint(any(DBObject.class))).thenReturn(cursor);
+    when(cursor.addOption(anyInt())).thenReturn(cursor);
+
+    template.find("collection", new Query().batchSize(500).hint(new BasicDBObject("firstName", 1)).slaveOk(),
+        Person.class);
+    verify(cursor).batchSize(500);
+    verify(cursor).hint(new BasicDBObject("firstName", 1));
+    verify(cursor).addOption(Bytes.QUERYOPTION_SLAVEOK);
+    verify(cursor, never()).snapshot();
+  }
+
+  @Test
+  public void publishesEventsIfPublisherIsSet() throws Exception {
+    MongoTemplate template = mockOutGetDb();
+    ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+    template.setApplicationEventPublisher(publisher);
+    when(db.getCollection("collection")).thenReturn(collection);
+    when(collection.find(any(DBObject.class))).thenReturn(cursor);
+    when(cursor.hasNext()).thenReturn(true, false);
+    when(cursor.next()).thenReturn(new BasicDBObject("firstName", "Oliver"));
+
+    template.insertList("collection", Arrays.asList(new Person("Oliver")));
+    verify(publisher).publishEvent(isA(BeforeConvertEvent.class));
+    verify(publisher).publishEvent(isA(BeforeSaveEvent.class));
+
+    template.find("collection", new Query(), Person.class);
+    verify(publisher).publishEvent(isA(AfterLoadEvent.class));
+    verify(publisher).publishEvent(isA(AfterConvertEvent.class));
+  }
+
+  @Test
+  public void prefetchesReferencesPageWiseOnFind() throws Exception {
+
+    MongoMappingContext context = new MongoMappingContext();
+    context.setInitialEntitySet(new HashSet<Class<?>>(Arrays.asList(PersonWithReference.class, Address.class)));
+    context.afterPropertiesSet();
+    MappingMongoConverter converter = new MappingMongoConverter(context);
+    converter.afterPropertiesSet();
+
+    DBCollection addresses = mock(DBCollection.class);
+    DBCursor addressCursor = mock(DBCursor.class);
+    when(db.getName()).thenReturn("database");
+    when(db.getCollection("address")).thenReturn(addresses);
+    when(addresses.find(any(DBObject.class))).thenReturn(addressCursor);
+
+    when(db.getCollection("collection")).thenReturn(collection);
+    when(collection.find(any(DBObject.class))).thenReturn(cursor);
+    when(cursor.batchSize(anyInt())).thenReturn(cursor);
+    when(cursor.hasNext()).thenReturn(true, true, false);
+    when(cursor.next()).thenReturn(
+        new BasicDBObject("address", new com.mongodb.DBRef(db, "address", new ObjectId())),
+        new BasicDBObject("address", new com.mongodb.DBRef(db, "address", new ObjectId())));
+
+    MongoTemplate template = spy(new MongoTemplate(mongo, "database", converter));
+    stub(template.getDb()).toReturn(db);
+
+    assertEquals(2, template.find("collection", new Query().batchSize(1), PersonWithReference.class).size());
+    verify(addresses, times(2)).find(any(DBObject.class));
+    verify(addresses, never()).findOne(any());
+  }
+
+  @Test
+  public void updateSendsAndLogsMappedQuery() throws Exception {
+    MongoTemplate template = mockOutGetDb();
+    template.setSlowOperationThreshold(0);
+    template.setSlowOperationExplainRatio(1);
+    when(db.getCollection("collection")).thenReturn(collection);
+    when(collection.find(any(DBObject.class), any(DBObject.class))).thenReturn(cursor);
+    when(cursor.explain()).thenReturn(new BasicDBObject());
+
+    ObjectId id = new ObjectId();
+    template.updateFirst("collection", new Query(where("id").is(id.toString())), Update.update("firstName", "Dave"));
+
+    DBObject mappedQuery = new BasicDBObject("_id", id);
+    verify(collection).update(eq(mappedQuery), any(DBObject.class), eq(false), eq(false));
+    verify(collection).find(eq(mappedQuery), any(DBObject.class));
+  }
+
+  @Test
+  public void logsSlowSingleDocumentOperations() throws Exception {
+    MongoTemplate template = mockOutGetDb();
+    template.setSlowOperationThreshold(0);
+    template.setSlowOperationExplainRatio(1);
+    when(db.getCollection("collection")).thenReturn(collection);
+    when(collection.find(any(DBObject.class), any(DBObject.class))).thenReturn(cursor);
+    when(cursor.explain()).thenReturn(new BasicDBObject());
+
+    ObjectId id = new ObjectId();
+    Query query = new Query(where("id").is(id.toString()));
+    template.findOne("collection", query, Person.class);
+    template.findAndModify("collection", query, Update.update("firstName", "Dave"), null, Person.class);
+    template.findAndRemove("collection", query, Person.class);
+
+    verify(collection, times(3)).find(eq(new BasicDBObject("_id", id)), any(DBObject.class));
+  }
+
   /**
    * Mocks out the {@link MongoTemplate#getDb()} method to return the {@link DB} mock instead of executing the actual
    * behaviour.
@@ -105,4 +479,29 @@ public class MongoTemplateUnitTests extends MongoOperationsUnitTests {
   protected MongoOperations getOperations() {
     return this.template;
   }
+
+  static class PersonSummary {
+
+    ObjectId id;
+
+    String firstName;
+  }
+
+  static class PersonSummaryWithAge extends PersonSummary {
+
+    int age;
+  }
+
+  public static class PersonWithReference {
+    @Id
+    String id;
+    @DBRef
+    Address address;
+  }
+
+  public static class Address {
+    @Id
+    ObjectId id;
+    String street;
+  }
 }
@@ -188,6 +188,25 @@ public class SimpleMongoConverterTests {
     assertEquals(test.getNumberEnum(), results.getNumberEnum());
   }
 
+  @Test
+  public void readsAndWritesPrimitiveProperties() {
+
+    Trade trade = new Trade();
+    trade.setTicker("VMW");
+    trade.setQuantity(100L);
+    trade.setPrice(74.5);
+
+    DBObject dbo = new BasicDBObject();
+    converter.write(trade, dbo);
+
+    assertThat(dbo.get("quantity"), is((Object) 100L));
+    assertThat(dbo.get("price"), is((Object) 74.5));
+
+    Trade result = converter.read(Trade.class, dbo);
+    assertThat(result.getQuantity(), is(100L));
+    assertThat(result.getPrice(), is(74.5));
+  }
+
   @Test
   public void serializesClassWithFinalObjectIdCorrectly() throws Exception {
 
@@ -341,6 +360,25 @@ public class SimpleMongoConverterTests {
     assertThat(result.getBirthDate(), is(notNullValue()));
   }
 
+  @Test
+  public void picksUpConvertersRegisteredAfterFirstWrite() {
+
+    AnotherPerson person = new AnotherPerson();
+    person.birthDate = new LocalDate();
+
+    DBObject dbObject = new BasicDBObject();
+    converter.write(person, dbObject);
+    assertFalse(dbObject.get("birthDate") instanceof Date);
+
+    Set<Converter<?, ?>> converters = new HashSet<Converter<?, ?>>();
+    converters.add(new LocalDateToDateConverter());
+    converter.setConverters(converters);
+
+    dbObject = new BasicDBObject();
+    converter.write(person, dbObject);
+    assertTrue(dbObject.get("birthDate") instanceof Date);
+  }
+
   private void assertListOfStringAndLong(List<Class<?>> types) {
 
     assertThat(types.size(), CoreMatchers.is(2));
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.document.mongodb;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBCollection;
+import com.mongodb.DBCursor;
+import com.mongodb.DBObject;
+import com.mongodb.MongoException;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.data.document.mongodb.query.Order;
+import org.springframework.data.document.mongodb.query.Query;
+
+/**
+ * Unit tests for {@link SlowOperationLog}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class SlowOperationLogUnitTests {
+
+  @Mock
+  DBCollection collection;
+  @Mock
+  DBCursor cursor;
+
+  SlowOperationLog log;
+
+  @Before
+  public void setUp() {
+    log = new SlowOperationLog();
+    when(collection.getName()).thenReturn("collection");
+    when(collection.find(any(DBObject.class), any(DBObject.class))).thenReturn(cursor);
+    when(cursor.sort(any(DBObject.class))).thenReturn(cursor);
+    when(cursor.limit(anyInt())).thenReturn(cursor);
+  }
+
+  @Test
+  public void isDisabledByDefault() {
+    assertFalse(log.isEnabled());
+    log.logIfSlow("find", collection, new BasicDBObject(), Long.MAX_VALUE);
+    verifyZeroInteractions(collection);
+  }
+
+  @Test
+  public void ignoresOperationsFasterThanThreshold() {
+    log.setThreshold(100);
+    log.setExplainRatio(1);
+    log.logIfSlow("find", collection, new BasicDBObject(), 1000);
+    verifyZeroInteractions(collection);
+  }
+
+  @Test
+  public void doesNotCountConversionTowardsThreshold() {
+    log.setThreshold(100);
+    log.setExplainRatio(1);
+    log.logIfSlow("find", collection, new BasicDBObject(), null, null, 1000, Long.MAX_VALUE);
+    verifyZeroInteractions(collection);
+  }
+
+  @Test
+  public void explainsSlowOperationsIfSampled() {
+    DBObject plan = new BasicDBObject("cursor", "BasicCursor");
+    plan.put("nscanned", 1000);
+    plan.put("n", 1);
+    when(cursor.explain()).thenReturn(plan);
+
+    Query query = new Query().limit(10);
+    query.sort().on("age", Order.ASCENDING);
+
+    log.setThreshold(0);
+    log.setExplainRatio(1);
+    log.logIfSlow("find", collection, new BasicDBObject("firstName", "Oliver"), null, query, 1000, 0);
+
+    verify(cursor).sort(new BasicDBObject("age", 1));
+    verify(cursor).limit(10);
+    verify(cursor).explain();
+  }
+
+  @Test
+  public void appliesCursorOptionsToExplain() {
+    when(cursor.hint(anyString())).thenReturn(cursor);
+    when(cursor.snapshot()).thenReturn(cursor);
+    when(cursor.addSpecial(anyString(), any())).thenReturn(cursor);
+    when(cursor.explain()).thenReturn(new BasicDBObject("cursor", "BtreeCursor firstName_1"));
+
+    log.setThreshold(0);
+    log.setExplainRatio(1);
+    log.logIfSlow("find", collection, new BasicDBObject("firstName", "Oliver"), null,
+        new Query().hint("firstName_1").snapshot().maxScan(100), 1000, 0);
+
+    verify(cursor).hint("firstName_1");
+    verify(cursor).snapshot();
+    verify(cursor).addSpecial("$maxScan", 100);
+    verify(cursor).explain();
+  }
+
+  @Test
+  public void doesNotExplainIfNotSampled() {
+    log.setThreshold(0);
+    log.logIfSlow("update", collection, new BasicDBObject(), 1000);
+    verify(collection, never()).find(any(DBObject.class), any(DBObject.class));
+  }
+
+  @Test
+  public void stillLogsIfExplainFails() {
+    when(cursor.explain()).thenThrow(new MongoException("Error!"));
+    log.setThreshold(0);
+    log.setExplainRatio(1);
+    log.logIfSlow("remove", collection, new BasicDBObject(), 1000);
+    verify(cursor).explain();
+  }
+}
@@ -105,6 +105,18 @@ public class CustomConvertersUnitTests {
     verify(dbObjectToBarConverter).convert(any(DBObject.class));
   }
   
+  @Test
+  public void picksUpConvertersRegisteredAfterFirstUsage() {
+
+    converter = new MappingMongoConverter(context);
+    converter.read(Bar.class, new BasicDBObject());
+    verify(dbObjectToBarConverter, never()).convert(any(DBObject.class));
+
+    converter.setConverters(Arrays.<Converter<?, ?>> asList(dbObjectToBarConverter));
+    converter.read(Bar.class, new BasicDBObject());
+    verify(dbObjectToBarConverter).convert(any(DBObject.class));
+  }
+
   @Test
   public void foo() {
     DBObject dbObject = new BasicDBObject();
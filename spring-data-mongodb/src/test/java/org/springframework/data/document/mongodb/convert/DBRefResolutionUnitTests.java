@@ -0,0 +1,163 @@
+/*
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.document.mongodb.convert;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import org.bson.types.ObjectId;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.document.mongodb.mapping.DBRef;
+import org.springframework.data.document.mongodb.mapping.MongoMappingContext;
+
+import com.mongodb.BasicDBList;
+import com.mongodb.BasicDBObject;
+import com.mongodb.DB;
+import com.mongodb.DBCollection;
+import com.mongodb.DBCursor;
+import com.mongodb.DBObject;
+
+/**
+ * Unit tests for the batched resolution of {@link DBRef}s in {@link MappingMongoConverter}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class DBRefResolutionUnitTests {
+
+  MappingMongoConverter converter;
+
+  @Mock
+  DB db;
+  @Mock
+  DBCollection collection;
+  @Mock
+  DBCursor cursor;
+
+  ObjectId firstId = new ObjectId();
+  ObjectId secondId = new ObjectId();
+  DBObject first = new BasicDBObject("_id", firstId).append("street", "Broadway");
+  DBObject second = new BasicDBObject("_id", secondId).append("street", "Wall Street");
+
+  @Before
+  public void setUp() throws Exception {
+
+    MongoMappingContext context = new MongoMappingContext();
+    context.setInitialEntitySet(new HashSet<Class<?>>(Arrays.asList(Person.class, Address.class)));
+    context.afterPropertiesSet();
+
+    converter = new MappingMongoConverter(context);
+    converter.afterPropertiesSet();
+
+    when(db.getName()).thenReturn("database");
+    when(db.getCollection("address")).thenReturn(collection);
+    when(collection.find(any(DBObject.class))).thenReturn(cursor);
+  }
+
+  @Test
+  public void resolvesReferenceListWithSingleQueryInOriginalOrder() {
+
+    // returned in a different order than referenced
+    when(cursor.hasNext()).thenReturn(true, true, false);
+    when(cursor.next()).thenReturn(second, first);
+
+    Person person = converter.read(Person.class, new BasicDBObject("addresses", references(firstId, secondId)));
+
+    verify(collection, times(1)).find(any(DBObject.class));
+    verify(collection, never()).findOne(any());
+    verify(cursor).close();
+    assertThat(person.addresses.size(), is(2));
+    assertThat(person.addresses.get(0).street, is("Broadway"));
+    assertThat(person.addresses.get(1).street, is("Wall Street"));
+  }
+
+  @Test
+  public void resolvesPrefetchedReferencesOfMultipleDocumentsWithoutFurtherQueries() {
+
+    when(cursor.hasNext()).thenReturn(true, true, false);
+    when(cursor.next()).thenReturn(first, second);
+
+    List<DBObject> documents = Arrays.<DBObject> asList(
+        new BasicDBObject("address", new com.mongodb.DBRef(db, "address", firstId)),
+        new BasicDBObject("addresses", references(secondId, firstId)));
+
+    assertThat(converter.prefetchDBRefs(Person.class, documents), is(true));
+
+    try {
+      Person person = converter.read(Person.class, documents.get(0));
+      Person other = converter.read(Person.class, documents.get(1));
+
+      assertThat(person.address.street, is("Broadway"));
+      assertThat(other.addresses.get(0).street, is("Wall Street"));
+      assertThat(other.addresses.get(1).street, is("Broadway"));
+    } finally {
+      converter.clearPrefetchedDBRefs();
+    }
+
+    verify(collection, times(1)).find(any(DBObject.class));
+    verify(collection, never()).findOne(any());
+  }
+
+  @Test
+  public void detectsTypesWithEagerReferences() {
+
+    assertThat(converter.hasEagerDBRefs(Person.class), is(true));
+    assertThat(converter.hasEagerDBRefs(Address.class), is(false));
+  }
+
+  @Test
+  public void fetchesReferenceIndividuallyIfNotPrefetched() {
+
+    when(collection.findOne(firstId)).thenReturn(first);
+
+    Person person = converter.read(Person.class, new BasicDBObject("address", new com.mongodb.DBRef(db, "address",
+        firstId)));
+
+    assertThat(person.address.street, is("Broadway"));
+    verify(collection, never()).find(any(DBObject.class));
+  }
+
+  private BasicDBList references(ObjectId... ids) {
+    BasicDBList references = new BasicDBList();
+    for (ObjectId id : ids) {
+      references.add(new com.mongodb.DBRef(db, "address", id));
+    }
+    return references;
+  }
+
+  public static class Person {
+    @Id
+    String id;
+    @DBRef
+    Address address;
+    @DBRef
+    List<Address> addresses;
+  }
+
+  public static class Address {
+    @Id
+    ObjectId id;
+    String street;
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.document.mongodb.convert;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.document.mongodb.mapping.Document;
+import org.springframework.data.document.mongodb.mapping.MongoMappingContext;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+
+/**
+ * Unit tests for {@link DefaultMongoTypeMapper}.
+ */
+public class DefaultMongoTypeMapperUnitTests {
+
+  MongoMappingContext context;
+  DefaultMongoTypeMapper typeMapper;
+
+  @Before
+  public void setUp() {
+    context = new MongoMappingContext();
+    typeMapper = new DefaultMongoTypeMapper(context);
+  }
+
+  @Test
+  public void resolvesAliasOfEntityAddedAfterFailedLookup() {
+
+    DBObject dbObject = new BasicDBObject(MappingMongoConverter.CUSTOM_TYPE_KEY, "aliased");
+
+    assertNull(typeMapper.readType(dbObject));
+
+    context.getPersistentEntity(Aliased.class);
+    assertEquals(Aliased.class, typeMapper.readType(dbObject));
+  }
+
+  @Test
+  public void resolvesFullyQualifiedClassName() {
+
+    DBObject dbObject = new BasicDBObject(MappingMongoConverter.CUSTOM_TYPE_KEY, Aliased.class.getName());
+    assertEquals(Aliased.class, typeMapper.readType(dbObject));
+  }
+
+  @Test
+  public void returnsNullForUnresolvableClassName() {
+
+    DBObject dbObject = new BasicDBObject(MappingMongoConverter.CUSTOM_TYPE_KEY, "com.acme.Unknown");
+
+    assertNull(typeMapper.readType(dbObject));
+    assertNull(typeMapper.readType(dbObject));
+  }
+
+  @Test
+  public void writesAliasOfEntity() {
+
+    DBObject dbObject = new BasicDBObject();
+    typeMapper.writeType(Aliased.class, Object.class, dbObject);
+
+    assertEquals("aliased", dbObject.get(MappingMongoConverter.CUSTOM_TYPE_KEY));
+  }
+
+  @Document(alias = "aliased")
+  static class Aliased {
+    String id;
+  }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.document.mongodb.convert;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.bson.types.ObjectId;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.document.mongodb.mapping.MongoMappingContext;
+import org.springframework.data.document.mongodb.mapping.MongoPersistentEntity;
+import org.springframework.data.document.mongodb.mapping.MongoPersistentProperty;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mapping.model.PreferredConstructor;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+
+/**
+ * Unit tests for {@link EntityAccessor} and its usage by {@link MappingMongoConverter}.
+ */
+public class EntityAccessorUnitTests {
+
+  MongoMappingContext context;
+
+  @Before
+  public void setUp() throws Exception {
+    context = new MongoMappingContext();
+    context.setInitialEntitySet(new HashSet<Class<?>>(Arrays.asList(Person.class, PersonWithSpel.class)));
+    context.afterPropertiesSet();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void instantiatesAndAccessesProperties() throws Exception {
+
+    MongoPersistentEntity<Person> entity = (MongoPersistentEntity<Person>) context.getPersistentEntity(Person.class);
+    EntityAccessor<Person> accessor = new EntityAccessor<Person>(entity, true);
+
+    assertThat(accessor.canInstantiate(), is(true));
+    Person person = accessor.newInstance(new PreferredConstructor.ParameterValueProvider() {
+      @SuppressWarnings("unchecked")
+      public <T> T getParameterValue(PreferredConstructor.Parameter<T> parameter) {
+        return (T) "Dave";
+      }
+    });
+
+    assertThat(person.firstname, is("Dave"));
+    assertThat(accessor.getProperty(person, getProperty(entity, "firstname")), is((Object) "Dave"));
+
+    assertThat(accessor.setProperty(person, getProperty(entity, "age"), 42), is(true));
+    assertThat(person.age, is(42));
+    assertThat(accessor.setProperty(person, getProperty(entity, "age"), null), is(false));
+    assertThat(accessor.setProperty(person, getProperty(entity, "age"), "42"), is(false));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void doesNotInstantiateTypesWithSpelConstructorParameters() {
+
+    MongoPersistentEntity<PersonWithSpel> entity = (MongoPersistentEntity<PersonWithSpel>) context
+        .getPersistentEntity(PersonWithSpel.class);
+    assertThat(new EntityAccessor<PersonWithSpel>(entity, true).canInstantiate(), is(false));
+  }
+
+  @Test
+  public void converterReadsAndWritesUsingGeneratedAccessors() {
+
+    MappingMongoConverter converter = new MappingMongoConverter(context);
+    converter.setUseGeneratedAccessors(true);
+    converter.afterPropertiesSet();
+
+    Person person = new Person("Dave");
+    person.id = new ObjectId();
+    person.age = 42;
+
+    DBObject dbObject = new BasicDBObject();
+    converter.write(person, dbObject);
+
+    assertThat(dbObject.get("_id"), is((Object) person.id));
+    assertThat(dbObject.get("firstname"), is((Object) "Dave"));
+    assertThat(dbObject.get("age"), is((Object) 42));
+
+    Person result = converter.read(Person.class, dbObject);
+    assertThat(result.id, is(person.id));
+    assertThat(result.firstname, is("Dave"));
+    assertThat(result.age, is(42));
+  }
+
+  private static MongoPersistentProperty getProperty(MongoPersistentEntity<?> entity, final String name) {
+
+    final MongoPersistentProperty[] result = new MongoPersistentProperty[1];
+    entity.doWithProperties(new PropertyHandler<MongoPersistentProperty>() {
+      public void doWithPersistentProperty(MongoPersistentProperty property) {
+        if (property.getName().equals(name)) {
+          result[0] = property;
+        }
+      }
+    });
+    return result[0];
+  }
+
+  public static class Person {
+
+    @Id
+    ObjectId id;
+    final String firstname;
+    int age;
+
+    public Person(String firstname) {
+      this.firstname = firstname;
+    }
+  }
+
+  public static class PersonWithSpel {
+
+    @Id
+    ObjectId id;
+    String firstname;
+
+    public PersonWithSpel(@Value("#root.name") String firstname) {
+      this.firstname = firstname;
+    }
+  }
+}
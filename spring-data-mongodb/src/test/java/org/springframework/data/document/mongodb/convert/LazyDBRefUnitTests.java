@@ -0,0 +1,154 @@
+/*
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.document.mongodb.convert;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.document.mongodb.mapping.DBRef;
+import org.springframework.data.document.mongodb.mapping.MongoMappingContext;
+import org.springframework.data.mapping.model.MappingException;
+
+import com.mongodb.BasicDBList;
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+
+/**
+ * Unit tests for lazily resolved {@link DBRef}s in {@link MappingMongoConverter}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class LazyDBRefUnitTests {
+
+  MappingMongoConverter converter;
+
+  @Mock
+  com.mongodb.DBRef reference;
+  @Mock
+  com.mongodb.DBRef otherReference;
+
+  @Before
+  public void setUp() throws Exception {
+
+    MongoMappingContext context = new MongoMappingContext();
+    context.setInitialEntitySet(new HashSet<Class<?>>(Arrays.asList(Person.class, Address.class)));
+    context.afterPropertiesSet();
+
+    converter = new MappingMongoConverter(context);
+    converter.afterPropertiesSet();
+
+    when(reference.fetch()).thenReturn(new BasicDBObject("street", "Broadway"));
+    when(otherReference.fetch()).thenReturn(new BasicDBObject("street", "Wall Street"));
+  }
+
+  @Test
+  public void resolvesLazyReferenceOnFirstAccessOnly() {
+
+    DBObject dbObject = new BasicDBObject("address", reference);
+    Person person = converter.read(Person.class, dbObject);
+
+    verify(reference, never()).fetch();
+    assertThat(person.address, is(notNullValue()));
+
+    assertThat(person.address.getStreet(), is("Broadway"));
+    assertThat(person.address.getStreet(), is("Broadway"));
+    verify(reference, times(1)).fetch();
+  }
+
+  @Test
+  public void resolvesLazyReferencesInCollectionsIndividually() {
+
+    BasicDBList references = new BasicDBList();
+    references.add(reference);
+    references.add(otherReference);
+
+    Person person = converter.read(Person.class, new BasicDBObject("previousAddresses", references));
+
+    assertThat(person.previousAddresses.size(), is(2));
+    verify(reference, never()).fetch();
+    verify(otherReference, never()).fetch();
+
+    assertThat(person.previousAddresses.get(1).getStreet(), is("Wall Street"));
+    verify(reference, never()).fetch();
+    verify(otherReference, times(1)).fetch();
+  }
+
+  @Test
+  public void resolvesEagerReferencesImmediately() {
+
+    converter.read(Person.class, new BasicDBObject("workAddress", reference));
+    verify(reference, times(1)).fetch();
+  }
+
+  @Test
+  public void readsDanglingEagerReferenceAsNull() {
+
+    when(reference.fetch()).thenReturn(null);
+
+    Person person = converter.read(Person.class, new BasicDBObject("workAddress", reference));
+    assertThat(person.workAddress, is(nullValue()));
+  }
+
+  @Test
+  public void rejectsAccessToDanglingLazyReference() {
+
+    when(reference.fetch()).thenReturn(null);
+
+    Person person = converter.read(Person.class, new BasicDBObject("address", reference));
+    assertThat(person.address, is(notNullValue()));
+
+    for (int i = 0; i < 2; i++) {
+      try {
+        person.address.getStreet();
+        fail("Expected MappingException!");
+      } catch (MappingException e) {
+      }
+    }
+
+    verify(reference, times(1)).fetch();
+  }
+
+  public static class Person {
+    @Id
+    String id;
+    @DBRef(lazy = true)
+    Address address;
+    @DBRef(lazy = true)
+    List<Address> previousAddresses;
+    @DBRef
+    Address workAddress;
+  }
+
+  public static class Address {
+    @Id
+    String id;
+    String street;
+
+    public String getStreet() {
+      return street;
+    }
+  }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.document.mongodb.convert;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.bson.types.ObjectId;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.document.mongodb.mapping.DBRef;
+import org.springframework.data.document.mongodb.mapping.MongoMappingContext;
+
+import com.mongodb.BasicDBList;
+import com.mongodb.BasicDBObject;
+import com.mongodb.DB;
+import com.mongodb.DBObject;
+import com.mongodb.Mongo;
+
+/**
+ * Unit tests for the per-property write handling of {@link MappingMongoConverter}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class MappingMongoConverterWriteUnitTests {
+
+  MongoMappingContext context;
+  MappingMongoConverter converter;
+
+  @Mock
+  Mongo mongo;
+  @Mock
+  DB db;
+
+  @Before
+  public void setUp() throws Exception {
+
+    context = new MongoMappingContext();
+    context.setInitialEntitySet(new HashSet<Class<?>>(Arrays.asList(Sample.class, Address.class)));
+    context.afterPropertiesSet();
+
+    when(mongo.getDB(anyString())).thenReturn(db);
+
+    converter = new MappingMongoConverter(context);
+    converter.setMongo(mongo);
+    converter.setDefaultDatabase("database");
+    converter.setConverters(Collections.<Converter<?, ?>> singletonList(new MoneyToStringConverter()));
+    converter.afterPropertiesSet();
+  }
+
+  @Test
+  public void writesSimpleProperties() {
+
+    Sample sample = new Sample();
+    sample.name = "Dave";
+    sample.age = 42;
+
+    DBObject result = write(sample);
+
+    assertThat(result.get("name"), is((Object) "Dave"));
+    assertThat(result.get("age"), is((Object) 42));
+  }
+
+  @Test
+  public void writesSimpleValueOfObjectProperty() {
+
+    Sample sample = new Sample();
+    sample.anything = "value";
+
+    assertThat(write(sample).get("anything"), is((Object) "value"));
+  }
+
+  @Test
+  public void writesMapValueOfObjectProperty() {
+
+    Map<String, String> map = new HashMap<String, String>();
+    map.put("key", "value");
+    Sample sample = new Sample();
+    sample.anything = map;
+
+    assertThat(write(sample).get("anything"), is((Object) new BasicDBObject("key", "value")));
+  }
+
+  @Test
+  public void writesCollectionOfEntities() {
+
+    Sample sample = new Sample();
+    sample.addresses = Arrays.asList(new Address("Broadway"), new Address("Wall Street"));
+
+    BasicDBList expected = new BasicDBList();
+    expected.add(new BasicDBObject("street", "Broadway"));
+    expected.add(new BasicDBObject("street", "Wall Street"));
+
+    assertThat(write(sample).get("addresses"), is((Object) expected));
+  }
+
+  @Test
+  public void writesMapOfEntities() {
+
+    Sample sample = new Sample();
+    sample.addressesByName = new HashMap<String, Address>();
+    sample.addressesByName.put("home", new Address("Broadway"));
+
+    DBObject addresses = (DBObject) write(sample).get("addressesByName");
+
+    assertThat(addresses.get("home"), is((Object) new BasicDBObject("street", "Broadway")));
+  }
+
+  @Test
+  public void writesNestedEntity() {
+
+    Sample sample = new Sample();
+    sample.address = new Address("Broadway");
+
+    assertThat(write(sample).get("address"), is((Object) new BasicDBObject("street", "Broadway")));
+  }
+
+  @Test
+  public void writesReference() {
+
+    Address address = new Address("Broadway");
+    address.id = new ObjectId();
+    Sample sample = new Sample();
+    sample.reference = address;
+
+    com.mongodb.DBRef reference = (com.mongodb.DBRef) write(sample).get("reference");
+
+    assertThat(reference.getRef(), is("address"));
+    assertThat(reference.getId(), is((Object) address.id));
+  }
+
+  @Test
+  public void writesPropertyWithCustomConverter() {
+
+    Sample sample = new Sample();
+    sample.money = new Money(10);
+
+    assertThat(write(sample).get("money"), is((Object) "EUR 10"));
+  }
+
+  @Test
+  public void usesConvertersRegisteredAfterFirstWrite() {
+
+    converter = new MappingMongoConverter(context);
+    converter.afterPropertiesSet();
+
+    Sample sample = new Sample();
+    sample.money = new Money(10);
+    assertThat(write(sample).get("money"), is(instanceOf(DBObject.class)));
+
+    converter.setConverters(Collections.<Converter<?, ?>> singletonList(new MoneyToStringConverter()));
+    assertThat(write(sample).get("money"), is((Object) "EUR 10"));
+  }
+
+  @Test
+  public void skipsNullValues() {
+
+    DBObject result = write(new Sample());
+
+    assertThat(result.containsField("name"), is(false));
+    assertThat(result.containsField("address"), is(false));
+    assertThat(result.containsField("reference"), is(false));
+  }
+
+  private DBObject write(Sample sample) {
+    DBObject dbObject = new BasicDBObject();
+    converter.write(sample, dbObject);
+    return dbObject;
+  }
+
+  static class Sample {
+
+    @Id
+    ObjectId id;
+
+    String name;
+
+    int age;
+
+    Object anything;
+
+    List<Address> addresses;
+
+    Map<String, Address> addressesByName;
+
+    Address address;
+
+    @DBRef
+    Address reference;
+
+    Money money;
+  }
+
+  static class Address {
+
+    @Id
+    ObjectId id;
+
+    String street;
+
+    Address(String street) {
+      this.street = street;
+    }
+  }
+
+  static final class Money {
+
+    final int amount;
+
+    Money(int amount) {
+      this.amount = amount;
+    }
+  }
+
+  static class MoneyToStringConverter implements Converter<Money, String> {
+
+    public String convert(Money source) {
+      return "EUR " + source.amount;
+    }
+  }
+}
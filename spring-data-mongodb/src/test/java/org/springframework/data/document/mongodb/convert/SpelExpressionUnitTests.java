@@ -0,0 +1,81 @@
+/*
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.document.mongodb.convert;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.document.mongodb.mapping.MongoMappingContext;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+
+/**
+ * Unit tests for reading properties populated by SpEL expressions in {@link MappingMongoConverter}.
+ */
+public class SpelExpressionUnitTests {
+
+  MappingMongoConverter converter;
+
+  @Before
+  public void setUp() throws Exception {
+
+    MongoMappingContext context = new MongoMappingContext();
+    context.setInitialEntitySet(new HashSet<Class<?>>(Arrays.asList(Person.class, Address.class)));
+    context.afterPropertiesSet();
+
+    converter = new MappingMongoConverter(context);
+    converter.afterPropertiesSet();
+  }
+
+  @Test
+  public void resolvesDocumentFieldsAsVariables() {
+
+    DBObject dave = new BasicDBObject("name", "Dave").append("greeting", "ignored");
+    DBObject oliver = new BasicDBObject("name", "Oliver").append("greeting", "ignored");
+
+    assertThat(converter.read(Person.class, dave).greeting, is("Hello Dave"));
+    assertThat(converter.read(Person.class, oliver).greeting, is("Hello Oliver"));
+  }
+
+  @Test
+  public void readsEntitiesWithoutExpressions() {
+
+    Address address = converter.read(Address.class, new BasicDBObject("street", "Broadway"));
+    assertThat(address.street, is("Broadway"));
+  }
+
+  public static class Person {
+    @Id
+    String id;
+    String name;
+    @Value("'Hello ' + #name")
+    String greeting;
+  }
+
+  public static class Address {
+    @Id
+    String id;
+    String street;
+  }
+}
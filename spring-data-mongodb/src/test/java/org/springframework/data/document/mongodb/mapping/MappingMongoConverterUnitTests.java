@@ -147,8 +147,54 @@ public class MappingMongoConverterUnitTests {
     assertThat(result.containsField(MappingMongoConverter.CUSTOM_TYPE_KEY), is(true));
     assertThat(result.get(MappingMongoConverter.CUSTOM_TYPE_KEY).toString(), is(Person.class.getName()));
   }
-  
-  
+
+  @Test
+  public void writesAndReadsTypeAlias() {
+
+    Customer customer = new Customer();
+    customer.birthDate = new LocalDate();
+
+    DBObject result = new BasicDBObject();
+    converter.write(customer, result);
+    assertThat(result.get(MappingMongoConverter.CUSTOM_TYPE_KEY).toString(), is("customer"));
+
+    assertThat(converter.read(Contact.class, result), is(Customer.class));
+  }
+
+  @Test
+  public void resolvesTypeAliasOfKnownEntityBeforeWriting() {
+
+    mappingContext.getPersistentEntity(Customer.class);
+    converter = new MappingMongoConverter(mappingContext);
+
+    DBObject dbObject = new BasicDBObject(MappingMongoConverter.CUSTOM_TYPE_KEY, "customer");
+    assertThat(converter.read(Contact.class, dbObject), is(Customer.class));
+  }
+
+  @Test
+  public void fallsBackToRequestedTypeForUnresolvableStoredType() {
+
+    DBObject dbObject = new BasicDBObject(MappingMongoConverter.CUSTOM_TYPE_KEY, "com.acme.Unknown");
+    assertThat(converter.read(Person.class, dbObject), is(Person.class));
+    assertThat(converter.read(Person.class, dbObject), is(Person.class));
+  }
+
+  @Test
+  public void omitsTypeInformationForMapValuesOfDeclaredType() {
+
+    AddressBook book = new AddressBook();
+    Address address = new Address();
+    address.city = "New York";
+    book.addresses = Collections.singletonMap("home", address);
+
+    DBObject result = new BasicDBObject();
+    converter.write(book, result);
+
+    DBObject addresses = (DBObject) result.get("addresses");
+    assertThat(addresses.containsField(MappingMongoConverter.CUSTOM_TYPE_KEY), is(false));
+    assertThat(converter.read(AddressBook.class, result).addresses.get("home").city, is("New York"));
+  }
+
   public static class Address {
     String street;
     String city;
@@ -162,6 +208,16 @@ public class MappingMongoConverterUnitTests {
     LocalDate birthDate;
   }
   
+  @Document(alias = "customer")
+  public static class Customer implements Contact {
+    String id;
+    LocalDate birthDate;
+  }
+
+  public static class AddressBook {
+    Map<String, Address> addresses;
+  }
+
   public static class BirthDateContainer {
     LocalDate birthDate;
   }
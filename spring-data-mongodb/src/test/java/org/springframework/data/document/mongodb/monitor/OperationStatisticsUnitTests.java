@@ -0,0 +1,71 @@
+/*
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.document.mongodb.monitor;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link OperationStatistics} and {@link CollectionOperationMetrics}.
+ */
+public class OperationStatisticsUnitTests {
+
+  @Test
+  public void bucketsCoverRecordedValues() {
+    for (long value : new long[] { 0, 1, 7, 8, 15, 16, 17, 1000, 123456789L, Long.MAX_VALUE / 2 }) {
+      int index = OperationStatistics.bucketIndex(value);
+      assertThat(OperationStatistics.bucketUpperBound(index), is(greaterThanOrEqualTo(value)));
+      if (index > 0) {
+        assertThat(OperationStatistics.bucketUpperBound(index - 1), is(lessThan(value)));
+      }
+    }
+  }
+
+  @Test
+  public void estimatesPercentilesWithinBucketPrecision() {
+
+    OperationStatistics statistics = new OperationStatistics();
+    for (int i = 1; i <= 100; i++) {
+      statistics.record(i * 1000L, 1, i % 10 == 0);
+    }
+
+    assertThat(statistics.getCount(), is(100L));
+    assertThat(statistics.getErrorCount(), is(10L));
+    assertThat(statistics.getDocumentCount(), is(100L));
+    assertThat(statistics.getLatencyPercentile(50), is(allOf(greaterThanOrEqualTo(50d), lessThan(57d))));
+    assertThat(statistics.getLatencyPercentile(99), is(allOf(greaterThanOrEqualTo(99d), lessThan(112d))));
+  }
+
+  @Test
+  public void recordsPerCollectionAndOperation() {
+
+    CollectionOperationMetrics metrics = new CollectionOperationMetrics();
+    metrics.record("person", "find", 1000, 5, false);
+    metrics.record("person", "find", 1000, 3, false);
+    metrics.record("account", "insert", 1000, 0, true);
+
+    assertThat(metrics.getCount("person", "find"), is(2L));
+    assertThat(metrics.getDocumentCount("person", "find"), is(8L));
+    assertThat(metrics.getErrorCount("account", "insert"), is(1L));
+    assertThat(metrics.getCount("account", "find"), is(0L));
+    assertThat(metrics.getOperations(), is(new String[] { "account.insert", "person.find" }));
+
+    metrics.reset();
+    assertThat(metrics.getOperations().length, is(0));
+  }
+}
@@ -19,12 +19,16 @@ import static org.hamcrest.CoreMatchers.*;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 
+import java.util.Arrays;
+
 import org.bson.types.ObjectId;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.core.convert.ConversionFailedException;
+import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.data.document.mongodb.convert.MongoConverter;
 import org.springframework.data.document.mongodb.mapping.MongoPersistentEntity;
 import org.springframework.data.document.mongodb.mapping.MongoPersistentProperty;
@@ -74,4 +78,67 @@ public class QueryMapperUnitTests {
     DBObject result = mapper.getMappedObject(query, null);
     assertThat(result.get("_id"), is(ObjectId.class));
   }
+
+  @Test
+  public void convertsIdsOfArrayInClause() {
+
+    ObjectId first = new ObjectId();
+    ObjectId second = new ObjectId();
+    when(converter.convertObjectId(first.toString())).thenReturn(first);
+    when(converter.convertObjectId(second.toString())).thenReturn(second);
+
+    DBObject query = new BasicDBObject("_id", new BasicDBObject("$in", new Object[] { first.toString(),
+        second.toString() }));
+    DBObject result = mapper.getMappedObject(query, null);
+
+    assertThat(getInClause(result), is(new Object[] { first, second }));
+  }
+
+  @Test
+  public void convertsIdsOfCollectionInClause() {
+
+    ObjectId first = new ObjectId();
+    ObjectId second = new ObjectId();
+    when(converter.convertObjectId(first.toString())).thenReturn(first);
+    when(converter.convertObjectId(second.toString())).thenReturn(second);
+
+    DBObject query = new BasicDBObject("_id", new BasicDBObject("$in", Arrays.asList(first.toString(),
+        second.toString())));
+    DBObject result = mapper.getMappedObject(query, null);
+
+    assertThat(getInClause(result), is(new Object[] { first, second }));
+  }
+
+  @Test
+  public void keepsIdsOfInClauseThatCannotBeConverted() {
+
+    ObjectId first = new ObjectId();
+    when(converter.convertObjectId(first.toString())).thenReturn(first);
+    when(converter.convertObjectId("foo")).thenThrow(
+        new ConversionFailedException(TypeDescriptor.valueOf(String.class), TypeDescriptor.valueOf(ObjectId.class),
+            "foo", null));
+
+    DBObject query = new BasicDBObject("_id", new BasicDBObject("$in", new Object[] { first.toString(), "foo" }));
+    DBObject result = mapper.getMappedObject(query, null);
+
+    assertThat(getInClause(result), is(new Object[] { first, "foo" }));
+  }
+
+  @Test
+  public void keepsOperatorsNextToInClause() {
+
+    Object[] excluded = new Object[] { "foo" };
+    BasicDBObject criteria = new BasicDBObject("$in", new Object[] { new ObjectId().toString() });
+    criteria.put("$nin", excluded);
+
+    DBObject result = mapper.getMappedObject(new BasicDBObject("_id", criteria), null);
+
+    DBObject mapped = (DBObject) result.get("_id");
+    assertThat(mapped.get("$nin"), is((Object) excluded));
+    assertThat(((Object[]) mapped.get("$in"))[0], is(ObjectId.class));
+  }
+
+  private static Object[] getInClause(DBObject result) {
+    return (Object[]) ((DBObject) result.get("_id")).get("$in");
+  }
 }
@@ -139,4 +139,17 @@ public class QueryTests {
 		String expected = "{ \"state\" : { \"$in\" : [ \"NY\" , \"NJ\" , \"PA\"]}}";
 		Assert.assertEquals(expected, q.getQueryObject().toString());
 	}
+
+	@Test
+	public void testCursorOptions() {
+		Query q = new Query(where("name").is("Thomas"));
+		Assert.assertFalse(q.hasCursorOptions());
+		q.batchSize(100).hint("name_1").maxScan(1000).snapshot().slaveOk();
+		Assert.assertTrue(q.hasCursorOptions());
+		Assert.assertEquals(100, q.getBatchSize());
+		Assert.assertEquals("name_1", q.getHint());
+		Assert.assertEquals(1000, q.getMaxScan());
+		Assert.assertTrue(q.isSnapshot());
+		Assert.assertTrue(q.isSlaveOk());
+	}
 }
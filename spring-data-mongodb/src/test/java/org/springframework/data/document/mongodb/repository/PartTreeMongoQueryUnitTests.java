@@ -0,0 +1,185 @@
+/*
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.document.mongodb.repository;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.data.document.mongodb.CloseableIterator;
+import org.springframework.data.document.mongodb.DocumentCallback;
+import org.springframework.data.document.mongodb.MongoTemplate;
+import org.springframework.data.document.mongodb.convert.MongoConverter;
+import org.springframework.data.document.mongodb.convert.SimpleMongoConverter;
+import org.springframework.data.document.mongodb.query.Query;
+import org.springframework.data.document.mongodb.repository.MongoRepositoryFactoryBean.EntityInformationCreator;
+import org.springframework.data.repository.support.RepositoryMetadata;
+
+/**
+ * Unit tests for {@link PartTreeMongoQuery}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class PartTreeMongoQueryUnitTests {
+
+  @Mock
+  MongoTemplate template;
+  @Mock
+  RepositoryMetadata metadata;
+  @Mock
+  EntityInformationCreator creator;
+  @Mock
+  MongoEntityInformation<Person, ?> entityInformation;
+
+  MongoConverter converter = new SimpleMongoConverter();
+
+  @Before
+  public void setUp() {
+    when(template.getConverter()).thenReturn(converter);
+    doReturn(entityInformation).when(creator).getEntityInformation(Person.class);
+    doReturn(Person.class).when(entityInformation).getJavaType();
+  }
+
+  @Test
+  public void bindsParametersIntoPrecompiledQuery() throws Exception {
+
+    PartTreeMongoQuery mongoQuery = createQueryFor("findByLastnameAndAgeGreaterThan", String.class, Integer.class);
+
+    assertQueryEqualsCreatedOne(mongoQuery, "Matthews", 18);
+    assertQueryEqualsCreatedOne(mongoQuery, "Beauford", 21);
+  }
+
+  @Test
+  public void bindsParametersIntoPrecompiledOrQuery() throws Exception {
+
+    PartTreeMongoQuery mongoQuery = createQueryFor("findByLastnameOrFirstname", String.class, String.class);
+
+    assertQueryEqualsCreatedOne(mongoQuery, "Matthews", "Dave");
+  }
+
+  @Test
+  public void createsLikeQueryCorrectly() throws Exception {
+
+    PartTreeMongoQuery mongoQuery = createQueryFor("findByLastnameLike", String.class);
+
+    assertQueryEqualsCreatedOne(mongoQuery, "Matt*");
+  }
+
+  @Test
+  public void readsOnlyFirstDocumentForSingleEntityExecution() throws Exception {
+
+    when(entityInformation.getCollectionName()).thenReturn("person");
+    PartTreeMongoQuery mongoQuery = createQueryFor("findByLastname", String.class);
+
+    mongoQuery.execute(new Object[] { "Matthews" });
+
+    ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+    verify(template).find(eq("person"), captor.capture(), eq(Person.class));
+    assertThat(captor.getValue().getLimit(), is(1));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void streamsResultsForIteratorReturningMethod() throws Exception {
+
+    CloseableIterator<Person> iterator = mock(CloseableIterator.class);
+    when(entityInformation.getCollectionName()).thenReturn("person");
+    when(template.stream(eq("person"), any(Query.class), eq(Person.class))).thenReturn(iterator);
+
+    PartTreeMongoQuery mongoQuery = createQueryFor("findByFirstname", String.class);
+    Object result = mongoQuery.execute(new Object[] { "Dave" });
+
+    assertThat(result, is((Object) iterator));
+
+    ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+    verify(template).stream(eq("person"), captor.capture(), eq(Person.class));
+    assertThat(captor.getValue().getBatchSize(), is(100));
+    verify(template, never()).find(anyString(), any(Query.class), eq(Person.class));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void handsResultsToCallbackParameter() throws Exception {
+
+    DocumentCallback<Person> callback = mock(DocumentCallback.class);
+    when(entityInformation.getCollectionName()).thenReturn("person");
+
+    PartTreeMongoQuery mongoQuery = createQueryFor("findByLastname", String.class, DocumentCallback.class);
+    Object result = mongoQuery.execute(new Object[] { "Matthews", callback });
+
+    assertThat(result, is(nullValue()));
+    verify(template).find(eq("person"), any(Query.class), eq(Person.class), eq(callback));
+  }
+
+  @Test
+  public void handsResultsToCallbackSubinterfaceParameter() throws Exception {
+
+    PersonCallback callback = mock(PersonCallback.class);
+    when(entityInformation.getCollectionName()).thenReturn("person");
+
+    PartTreeMongoQuery mongoQuery = createQueryFor("findByFirstname", String.class, PersonCallback.class);
+    Object result = mongoQuery.execute(new Object[] { "Dave", callback });
+
+    assertThat(result, is(nullValue()));
+    verify(template).find(eq("person"), any(Query.class), eq(Person.class), eq(callback));
+  }
+
+  private PartTreeMongoQuery createQueryFor(String name, Class<?>... parameterTypes) throws Exception {
+
+    Method method = SampleRepository.class.getMethod(name, parameterTypes);
+    return new PartTreeMongoQuery(new MongoQueryMethod(method, metadata, creator), template);
+  }
+
+  private void assertQueryEqualsCreatedOne(PartTreeMongoQuery mongoQuery, Object... parameters) {
+
+    Query query = mongoQuery.createQuery(StubParameterAccessor.getAccessor(converter, parameters));
+    Query reference = new MongoQueryCreator(mongoQuery.getTree(), StubParameterAccessor.getAccessor(converter,
+        parameters)).createQuery();
+
+    assertThat(query.getQueryObject().toString(), is(reference.getQueryObject().toString()));
+  }
+
+  private interface SampleRepository {
+
+    Person findByLastname(String lastname);
+
+    List<Person> findByLastnameAndAgeGreaterThan(String lastname, Integer age);
+
+    List<Person> findByLastnameOrFirstname(String lastname, String firstname);
+
+    List<Person> findByLastnameLike(String lastname);
+
+    @CursorOptions(batchSize = 100)
+    CloseableIterator<Person> findByFirstname(String firstname);
+
+    void findByLastname(String lastname, DocumentCallback<Person> callback);
+
+    void findByFirstname(String firstname, PersonCallback callback);
+  }
+
+  interface PersonCallback extends DocumentCallback<Person> {
+
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.document.mongodb.repository;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.data.document.mongodb.MongoTemplate;
+import org.springframework.data.document.mongodb.query.Query;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+
+/**
+ * Unit tests for {@link SimpleMongoRepository}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class SimpleMongoRepositoryUnitTests {
+
+  @Mock
+  MongoTemplate template;
+  @Mock
+  MongoEntityInformation<Person, String> information;
+
+  SimpleMongoRepository<Person, String> repository;
+
+  Person dave, oliver, carter;
+
+  @Before
+  public void setUp() {
+
+    when(information.getCollectionName()).thenReturn("person");
+    when(information.getIdAttribute()).thenReturn("id");
+    when(information.getJavaType()).thenReturn(Person.class);
+
+    dave = new Person("Dave", "Matthews");
+    oliver = new Person("Oliver August", "Matthews");
+    carter = new Person("Carter", "Beauford");
+
+    for (Person person : Arrays.asList(dave, oliver, carter)) {
+      when(information.getId(person)).thenReturn(person.getId());
+    }
+
+    repository = new SimpleMongoRepository<Person, String>(information, template);
+    repository.setBatchSize(2);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void insertsNewEntitiesInBatches() {
+
+    when(information.isNew(any(Person.class))).thenReturn(true);
+
+    repository.save(Arrays.asList(dave, oliver, carter));
+
+    ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+    verify(template, times(2)).insertList(eq("person"), captor.capture());
+    verify(template, never()).save(anyString(), any());
+    assertThat(captor.getAllValues().get(0).size(), is(2));
+    assertThat(captor.getAllValues().get(1).size(), is(1));
+  }
+
+  @Test
+  public void removesEntitiesByIdsInBatches() {
+
+    repository.delete(Arrays.asList(dave, oliver, carter));
+
+    ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+    verify(template, times(2)).remove(eq("person"), captor.capture(), eq(Person.class));
+
+    DBObject reference = new BasicDBObject("id", new BasicDBObject("$in", new Object[] { dave.getId(),
+        oliver.getId() }));
+    assertThat(captor.getAllValues().get(0).getQueryObject().toString(), is(reference.toString()));
+  }
+
+  @Test
+  public void returnsEntitiesInOrderOfIds() {
+
+    when(template.find(eq("person"), any(Query.class), eq(Person.class))).thenReturn(Arrays.asList(dave, carter),
+        Arrays.asList(oliver));
+
+    List<Person> result = repository.findAll(Arrays.asList(carter.getId(), dave.getId(), oliver.getId()));
+
+    verify(template, times(2)).find(eq("person"), any(Query.class), eq(Person.class));
+    assertThat(result, is(Arrays.asList(carter, dave, oliver)));
+  }
+}
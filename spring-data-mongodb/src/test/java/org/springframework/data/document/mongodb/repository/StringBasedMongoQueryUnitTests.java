@@ -91,12 +91,64 @@ public class StringBasedMongoQueryUnitTests {
     assertThat(query.getQueryObject(), is(reference.getQueryObject()));
   }
 
+  @Test
+  public void bindsMultipleParametersCorrectly() throws Exception {
+
+    Method method = SampleRepository.class.getMethod("findByLastnameAndFirstname", String.class, String.class);
+    MongoQueryMethod queryMethod = new MongoQueryMethod(method, metadata, creator);
+    StringBasedMongoQuery mongoQuery = new StringBasedMongoQuery(queryMethod, template);
+    ConvertingParameterAccessor accesor = StubParameterAccessor.getAccessor(converter, "Matthews", "Dave");
+
+    org.springframework.data.document.mongodb.query.Query query = mongoQuery.createQuery(accesor);
+    org.springframework.data.document.mongodb.query.Query reference = new BasicQuery(
+        "{'lastname' : 'Matthews', 'firstname' : 'Dave'}");
+
+    assertThat(query.getQueryObject(), is(reference.getQueryObject()));
+  }
+
+  @Test
+  public void bindsStringContainingQuotesAsPlainValue() throws Exception {
+
+    Method method = SampleRepository.class.getMethod("findByLastname", String.class);
+    MongoQueryMethod queryMethod = new MongoQueryMethod(method, metadata, creator);
+    StringBasedMongoQuery mongoQuery = new StringBasedMongoQuery(queryMethod, template);
+    String lastname = "Matthews', '$where' : 'true";
+    ConvertingParameterAccessor accesor = StubParameterAccessor.getAccessor(converter, lastname);
+
+    org.springframework.data.document.mongodb.query.Query query = mongoQuery.createQuery(accesor);
+
+    assertThat(query.getQueryObject(), is((DBObject) new BasicDBObject("lastname", lastname)));
+  }
+
+  @Test
+  public void appliesCursorOptionsOfQueryMethod() throws Exception {
+
+    Method method = SampleRepository.class.getMethod("findByFirstname", String.class);
+    MongoQueryMethod queryMethod = new MongoQueryMethod(method, metadata, creator);
+
+    org.springframework.data.document.mongodb.query.Query query = queryMethod.applyCursorOptions(new BasicQuery(
+        "{'firstname' : 'Dave'}"));
+
+    assertThat(query.getBatchSize(), is(500));
+    assertThat(query.getHint(), is((Object) new BasicDBObject("firstname", 1)));
+    assertThat(query.getMaxScan(), is(1000));
+    assertThat(query.isSlaveOk(), is(true));
+    assertThat(query.isSnapshot(), is(false));
+  }
+
   private interface SampleRepository {
 
     @Query("{ 'lastname' : ?0 }")
     Person findByLastname(String lastname);
     
+    @Query("{ 'lastname' : ?0, 'firstname' : ?1 }")
+    Person findByLastnameAndFirstname(String lastname, String firstname);
+
     @Query("{ 'address' : ?0 }")
     Person findByAddress(Address address);
+
+    @Query("{ 'firstname' : ?0 }")
+    @CursorOptions(batchSize = 500, hint = "{ 'firstname' : 1 }", maxScan = 1000, slaveOk = true)
+    Person findByFirstname(String firstname);
   }
 }